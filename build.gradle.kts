@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "4.0.4"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.mall"
@@ -22,6 +23,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     // Spring Boot 4.0 renamed aop to aspectj
     implementation("org.springframework.boot:spring-boot-starter-aspectj")
@@ -29,7 +31,8 @@ dependencies {
     implementation("org.redisson:redisson-spring-boot-starter:4.3.0")
     implementation("org.redisson:redisson-spring-data-40:4.3.0")
     
-    implementation("org.springframework.kafka:spring-kafka")
+    // Spring Boot 4 moved Kafka auto-configuration (KafkaTemplate) into its own starter
+    implementation("org.springframework.boot:spring-boot-starter-kafka")
     
     // Lombok
     compileOnly("org.projectlombok:lombok")
@@ -53,12 +56,36 @@ dependencies {
     runtimeOnly("org.postgresql:postgresql")
     testImplementation("com.h2database:h2")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    // @EmbeddedKafka broker for the outbox relay test
+    testImplementation("org.springframework.kafka:spring-kafka-test")
+
+    // JMH benchmarks (src/jmh): in-process Redis + H2 for the inventory contention benchmark
+    jmh("com.github.codemonstur:embedded-redis:1.4.3")
+    jmh("com.h2database:h2")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// ./gradlew jmh -> build/reports/jmh/results.json
+jmh {
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    // e.g. ./gradlew jmh -Pjmh.includes=CartMapping
+    (project.findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+}
+
+// ./gradlew guestCartMemoryReport -> bytes per guest cart, default codec vs GuestCartCodec
+tasks.register<JavaExec>("guestCartMemoryReport") {
+    group = "benchmark"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.mall.cart.repository.GuestCartMemoryReport")
+}
+
 // Querydsl generated classes path
 val querydslDir = layout.buildDirectory.dir("generated/querydsl").get().asFile
 
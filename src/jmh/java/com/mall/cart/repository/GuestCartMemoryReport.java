@@ -0,0 +1,67 @@
+package com.mall.cart.repository;
+
+import org.redisson.Redisson;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.config.Config;
+import redis.embedded.RedisServer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 비회원 장바구니 1개당 Redis 메모리 사용량 비교 (기본 코덱 vs {@link GuestCartCodec})
+ * 내장 Redis에 같은 장바구니를 두 형식으로 저장하고 MEMORY USAGE 평균을 출력한다.
+ * ./gradlew guestCartMemoryReport
+ */
+public class GuestCartMemoryReport {
+
+    private static final int REDIS_PORT = 16380;
+    private static final int CARTS = 1_000;
+    private static final int[] ITEM_COUNTS = {1, 3, 10, 30};
+
+    public static void main(String[] args) throws Exception {
+        RedisServer redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://127.0.0.1:" + REDIS_PORT);
+        RedissonClient redissonClient = Redisson.create(config);
+        try {
+            Codec defaultCodec = redissonClient.getConfig().getCodec();
+            System.out.printf("%-6s %14s %14s %8s%n", "items", "default(B)", "guest(B)", "saving");
+            for (int itemCount : ITEM_COUNTS) {
+                long legacyBytes = 0;
+                long compactBytes = 0;
+                for (int i = 0; i < CARTS; i++) {
+                    Map<Long, Integer> items = randomCart(itemCount);
+
+                    RMap<Long, Integer> legacy = redissonClient.getMap("report:legacy:" + itemCount + ":" + i, defaultCodec);
+                    legacy.putAll(items);
+                    legacyBytes += legacy.sizeInMemory();
+
+                    RMap<Long, Integer> compact = redissonClient.getMap("report:guest:" + itemCount + ":" + i, GuestCartCodec.INSTANCE);
+                    compact.putAll(items);
+                    compactBytes += compact.sizeInMemory();
+                }
+                System.out.printf("%-6d %14.1f %14.1f %7.1f%%%n", itemCount,
+                        (double) legacyBytes / CARTS, (double) compactBytes / CARTS,
+                        100.0 * (legacyBytes - compactBytes) / legacyBytes);
+            }
+        } finally {
+            redissonClient.shutdown();
+            redisServer.stop();
+        }
+    }
+
+    private static Map<Long, Integer> randomCart(int itemCount) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<Long, Integer> items = new HashMap<>();
+        while (items.size() < itemCount) {
+            items.put(random.nextLong(1, 10_000_000), random.nextInt(1, 6));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,34 @@
+package com.mall.cart.service;
+
+import com.mall.cart.dto.CartResponse;
+import com.mall.product.dto.SkuSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장바구니 항목 가격 계산 (기본가 + 추가금액, 수량 곱)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CartMappingBenchmark {
+
+    private CartServiceImpl cartService;
+    private SkuSnapshot sku;
+
+    @Setup
+    public void setUp() {
+        // mapToResponse(SkuSnapshot, int)는 저장소를 사용하지 않음
+        cartService = new CartServiceImpl(null, null, null, null, null, null);
+        sku = new SkuSnapshot(1L, "Benchmark Product", "BENCH-SKU",
+                Map.of("color", "black", "size", "L"), new BigDecimal("19900"), new BigDecimal("2500"));
+    }
+
+    @Benchmark
+    public CartResponse mapToResponse() {
+        return cartService.mapToResponse(sku, 3);
+    }
+}
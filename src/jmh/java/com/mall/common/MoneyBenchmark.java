@@ -0,0 +1,67 @@
+package com.mall.common;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 금액 계산 (라인별 판매가 = 기본가 + 추가금액, 소계 = 판매가 x 수량, 총액 = 소계 합)
+ * 기존 BigDecimal 계산과 {@link Money} 계산 비교. -prof gc로 할당량도 함께 확인한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    @Param({"3", "20"})
+    private int lines;
+
+    private BigDecimal[] basePrices;
+    private BigDecimal[] additionalPrices;
+    private Money[] baseMoney;
+    private Money[] additionalMoney;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        basePrices = new BigDecimal[lines];
+        additionalPrices = new BigDecimal[lines];
+        baseMoney = new Money[lines];
+        additionalMoney = new Money[lines];
+        quantities = new int[lines];
+        for (int i = 0; i < lines; i++) {
+            basePrices[i] = BigDecimal.valueOf(random.nextInt(1_000, 500_000));
+            additionalPrices[i] = BigDecimal.valueOf(random.nextInt(0, 10_000));
+            baseMoney[i] = Money.of(basePrices[i]);
+            additionalMoney[i] = Money.of(additionalPrices[i]);
+            quantities[i] = random.nextInt(1, 6);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            BigDecimal price = basePrices[i].add(additionalPrices[i]);
+            total = total.add(price.multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money moneyTotal() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < lines; i++) {
+            total = total.plus(baseMoney[i].plus(additionalMoney[i]).times(quantities[i]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal moneyTotalWithBoundaryConversion() {
+        return moneyTotal().toBigDecimal();
+    }
+}
@@ -0,0 +1,43 @@
+package com.mall.config.lock;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산 락 키 생성 비용 (@DistributedLock 호출마다 실행)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CustomSpringELParserBenchmark {
+
+    private final String[] parameterNames = {"skuId", "quantity"};
+    private final Object[] args = {42L, 3};
+
+    // DistributedLockAspect가 메서드별로 캐시하는 리졸버
+    private final CustomSpringELParser.KeyResolver simpleResolver =
+            CustomSpringELParser.compile(parameterNames, "#skuId");
+    private final CustomSpringELParser.KeyResolver concatenationResolver =
+            CustomSpringELParser.compile(parameterNames, "'SKU:' + #skuId");
+
+    @Benchmark
+    public Object simpleVariable() {
+        return CustomSpringELParser.getDynamicValue(parameterNames, args, "#skuId");
+    }
+
+    @Benchmark
+    public Object concatenation() {
+        return CustomSpringELParser.getDynamicValue(parameterNames, args, "'SKU:' + #skuId");
+    }
+
+    @Benchmark
+    public Object cachedSimpleVariable() {
+        return simpleResolver.resolve(args);
+    }
+
+    @Benchmark
+    public Object cachedConcatenation() {
+        return concatenationResolver.resolve(args);
+    }
+}
@@ -0,0 +1,92 @@
+package com.mall.order.repository;
+
+import com.mall.MallApplication;
+import com.mall.order.domain.Order;
+import com.mall.order.domain.OrderItem;
+import com.mall.order.domain.OrderStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import redis.embedded.RedisServer;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 1건(주문 + 주문 항목 N개) 저장 비용
+ * - batchSize=1 : JDBC 배치 없이 행마다 INSERT 왕복 (변경 전 IDENTITY 방식과 같은 왕복 수)
+ * - batchSize=50: 시퀀스 pooled 할당 + order_inserts 배치 (주문 항목을 한 번의 배치로 INSERT)
+ * IDENTITY 매핑 자체와 비교하려면 이전 커밋에서 같은 벤치마크(batchSize=1)를 실행한다.
+ * 외부 인프라 없이 실행되도록 내장 Redis와 H2(PostgreSQL 모드)를 사용하므로, 실제 DB에서는 네트워크 왕복만큼 차이가 더 커진다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class OrderInsertBenchmark {
+
+    private static final int REDIS_PORT = 16381;
+
+    @Param({"1", "10", "50"})
+    private int items;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private RedisServer redisServer;
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        context = new SpringApplicationBuilder(MallApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(Map.of(
+                        "spring.datasource.url", "jdbc:h2:mem:orderbench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "spring.datasource.driver-class-name", "org.h2.Driver",
+                        "spring.datasource.username", "sa",
+                        "spring.datasource.password", "",
+                        "spring.jpa.hibernate.ddl-auto", "create-drop",
+                        "spring.jpa.show-sql", "false",
+                        "spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size", String.valueOf(batchSize),
+                        "spring.data.redis.port", String.valueOf(REDIS_PORT),
+                        "mall.outbox.relay.enabled", "false"))
+                .run();
+
+        orderRepository = context.getBean(OrderRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        redisServer.stop();
+    }
+
+    @Benchmark
+    public Long insertOrder() {
+        return transactionTemplate.execute(status -> {
+            Order order = Order.builder()
+                    .userId(1L)
+                    .status(OrderStatus.PENDING_PAYMENT)
+                    .totalAmount(BigDecimal.valueOf(10_000L * items))
+                    .build();
+            for (int i = 0; i < items; i++) {
+                order.addOrderItem(OrderItem.builder()
+                        .skuId((long) i + 1)
+                        .skuName("Benchmark SKU " + i)
+                        .price(BigDecimal.valueOf(10_000))
+                        .quantity(1)
+                        .build());
+            }
+            return orderRepository.save(order).getId();
+        });
+    }
+}
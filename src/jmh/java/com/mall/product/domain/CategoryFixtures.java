@@ -0,0 +1,37 @@
+package com.mall.product.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 카테고리 트리 생성 (ID가 필요하므로 테스트 생성자 사용)
+ */
+public final class CategoryFixtures {
+
+    private CategoryFixtures() {
+    }
+
+    /**
+     * @param depth  트리 깊이 (루트 포함)
+     * @param fanOut 노드당 자식 수
+     */
+    public static List<Category> tree(int roots, int depth, int fanOut) {
+        List<Category> categories = new ArrayList<>();
+        long[] nextId = {1};
+        for (int i = 0; i < roots; i++) {
+            addSubtree(categories, null, depth, fanOut, nextId);
+        }
+        return categories;
+    }
+
+    private static void addSubtree(List<Category> categories, Category parent, int depth, int fanOut, long[] nextId) {
+        long id = nextId[0]++;
+        Category category = new Category(id, "Category-" + id, parent);
+        categories.add(category);
+        if (depth > 1) {
+            for (int i = 0; i < fanOut; i++) {
+                addSubtree(categories, category, depth - 1, fanOut, nextId);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.mall.product.service;
+
+import com.mall.product.domain.Category;
+import com.mall.product.domain.CategoryFixtures;
+import com.mall.product.dto.CategoryTreeResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 카테고리 트리 조립 (DB 조회 제외)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CategoryTreeBenchmark {
+
+    // depth 4, fanOut 10 -> 루트당 1,111개 노드
+    @Param({"3", "4"})
+    private int depth;
+
+    @Param({"10"})
+    private int fanOut;
+
+    private CategoryService categoryService;
+    private List<Category> categories;
+
+    @Setup
+    public void setUp() {
+        categoryService = new CategoryService(null);
+        categories = CategoryFixtures.tree(10, depth, fanOut);
+    }
+
+    @Benchmark
+    public List<CategoryTreeResponse> buildTree() {
+        return categoryService.buildTree(categories);
+    }
+}
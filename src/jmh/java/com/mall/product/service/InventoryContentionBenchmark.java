@@ -0,0 +1,97 @@
+package com.mall.product.service;
+
+import com.mall.MallApplication;
+import com.mall.product.domain.Inventory;
+import com.mall.product.domain.Product;
+import com.mall.product.domain.Sku;
+import com.mall.product.repository.InventoryRepository;
+import com.mall.product.repository.ProductRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 Hot SKU에 대한 재고 차감 경합 (mall.inventory.mode별 비교)
+ * 외부 인프라 없이 실행되도록 내장 Redis와 H2(PostgreSQL 모드)를 사용한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(16)
+public class InventoryContentionBenchmark {
+
+    private static final int REDIS_PORT = 16379;
+
+    // 측정 중 재고가 소진되지 않도록 충분히 큰 초기 재고
+    private static final int INITIAL_STOCK = 1_000_000_000;
+
+    @Param({"db", "redis", "group-commit", "ledger"})
+    private String mode;
+
+    private RedisServer redisServer;
+    private ConfigurableApplicationContext context;
+    private InventoryService inventoryService;
+    private Long skuId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        context = new SpringApplicationBuilder(MallApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(Map.of(
+                        "spring.datasource.url", "jdbc:h2:mem:bench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "spring.datasource.driver-class-name", "org.h2.Driver",
+                        "spring.datasource.username", "sa",
+                        "spring.datasource.password", "",
+                        "spring.jpa.hibernate.ddl-auto", "create-drop",
+                        "spring.jpa.show-sql", "false",
+                        "spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+                        "spring.data.redis.port", String.valueOf(REDIS_PORT),
+                        "mall.outbox.relay.enabled", "false",
+                        "mall.inventory.mode", mode))
+                .run();
+
+        inventoryService = context.getBean(InventoryService.class);
+        skuId = createSku(context);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        redisServer.stop();
+    }
+
+    @Benchmark
+    public void decreaseStock() {
+        inventoryService.decreaseStock(skuId, 1);
+    }
+
+    private Long createSku(ConfigurableApplicationContext context) {
+        Product product = Product.builder()
+                .name("Contention Benchmark Product")
+                .basePrice(new BigDecimal("10000"))
+                .attributes(Map.of())
+                .build();
+        Sku sku = Sku.builder()
+                .skuCode("BENCH-HOT-SKU")
+                .attributes(Map.of())
+                .additionalPrice(BigDecimal.ZERO)
+                .build();
+        product.addSku(sku);
+        context.getBean(ProductRepository.class).save(product);
+
+        context.getBean(InventoryRepository.class).save(Inventory.builder()
+                .sku(sku)
+                .stockQuantity(INITIAL_STOCK)
+                .build());
+        return sku.getId();
+    }
+}
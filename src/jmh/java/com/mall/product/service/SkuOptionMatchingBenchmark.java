@@ -0,0 +1,46 @@
+package com.mall.product.service;
+
+import com.mall.product.domain.Sku;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 옵션 조합으로 SKU 찾기 (최악의 경우: 마지막 SKU가 일치)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SkuOptionMatchingBenchmark {
+
+    @Param({"10", "100"})
+    private int skuCount;
+
+    private ProductService productService;
+    private List<Sku> skus;
+    private Map<String, Object> lastOptions;
+
+    @Setup
+    public void setUp() {
+        productService = new ProductService(null, null, null);
+        skus = new ArrayList<>(skuCount);
+        for (int i = 0; i < skuCount; i++) {
+            skus.add(Sku.builder()
+                    .skuCode("BENCH-SKU-" + i)
+                    .attributes(Map.of("color", "color-" + (i % 10), "size", "size-" + (i / 10)))
+                    .additionalPrice(BigDecimal.ZERO)
+                    .build());
+        }
+        // JSON 역직렬화 결과와 같은 형태로 새 Map 인스턴스를 사용
+        lastOptions = Map.copyOf(skus.get(skuCount - 1).getAttributes());
+    }
+
+    @Benchmark
+    public Sku matchLast() {
+        return productService.matchSku(skus, lastOptions);
+    }
+}
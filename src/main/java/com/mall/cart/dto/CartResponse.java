@@ -1,5 +1,7 @@
 package com.mall.cart.dto;
 
+import com.mall.common.Money;
+
 import java.math.BigDecimal;
 import java.util.Map;
 
@@ -8,8 +10,19 @@ public record CartResponse(
     String productName,
     String skuCode,
     Map<String, Object> attributes,
-    BigDecimal price,
+    Money price,
     int quantity,
-    BigDecimal subTotal
+    Money subTotal
 ) {
+    public CartResponse(Long skuId, String productName, String skuCode, Map<String, Object> attributes,
+                        Money price, int quantity) {
+        this(skuId, productName, skuCode, attributes, price, quantity, price.times(quantity));
+    }
+
+    // Querydsl 프로젝션용 (cart_item 수량과 SKU/상품 컬럼을 한 번의 조인으로 조회)
+    public CartResponse(Long skuId, String productName, String skuCode, Map<String, Object> attributes,
+                        BigDecimal basePrice, BigDecimal additionalPrice, Integer quantity) {
+        this(skuId, productName, skuCode, attributes,
+                Money.of(basePrice).plus(Money.of(additionalPrice)), quantity);
+    }
 }
@@ -2,9 +2,20 @@ package com.mall.cart.repository;
 
 import com.mall.cart.domain.CartItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<CartItem, Long>, CartRepositoryCustom {
     Optional<CartItem> findByUserIdAndSkuId(Long userId, Long skuId);
+    List<CartItem> findByUserId(Long userId);
     void deleteByUserId(Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM CartItem c WHERE c.userId = :userId AND c.skuId IN :skuIds")
+    int deleteByUserIdAndSkuIds(@Param("userId") Long userId, @Param("skuIds") Collection<Long> skuIds);
 }
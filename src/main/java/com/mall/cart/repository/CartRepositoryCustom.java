@@ -1,8 +1,25 @@
 package com.mall.cart.repository;
 
 import com.mall.cart.domain.CartItem;
+import com.mall.cart.dto.CartResponse;
 import java.util.List;
+import java.util.Map;
 
 public interface CartRepositoryCustom {
     List<CartItem> findByUserIdWithDetails(Long userId);
+
+    /**
+     * 회원 장바구니를 응답 형태로 조회 (cart_item + sku + product 조인 한 번, 엔티티 로딩 없음)
+     */
+    List<CartResponse> findResponsesByUserId(Long userId);
+
+    /**
+     * SKU별 수량을 기존 장바구니 수량에 더함 (없으면 생성). 한 번의 JDBC 배치로 실행한다.
+     */
+    void addQuantities(Long userId, Map<Long, Integer> quantities);
+
+    /**
+     * SKU별 수량을 주어진 값으로 설정 (없으면 생성). 한 번의 JDBC 배치로 실행한다.
+     */
+    void setQuantities(Long userId, Map<Long, Integer> quantities);
 }
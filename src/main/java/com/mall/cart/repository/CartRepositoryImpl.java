@@ -1,13 +1,19 @@
 package com.mall.cart.repository;
 
 import com.mall.cart.domain.CartItem;
-import com.mall.cart.domain.QCartItem;
-import com.mall.product.domain.QProduct;
-import com.mall.product.domain.QSku;
+import com.mall.cart.dto.CartResponse;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static com.mall.cart.domain.QCartItem.cartItem;
 import static com.mall.product.domain.QProduct.product;
@@ -16,7 +22,29 @@ import static com.mall.product.domain.QSku.sku;
 @RequiredArgsConstructor
 public class CartRepositoryImpl implements CartRepositoryCustom {
 
+    // id는 시퀀스 값을 직접 사용 (Hibernate pooled 할당은 조회한 값 이하 구간만 쓰므로 겹치지 않음)
+    // PostgreSQL: (user_id, sku_id) 유니크 제약 기반 Upsert (%s: 충돌 시 수량 식)
+    private static final String UPSERT_POSTGRES =
+            "INSERT INTO cart_item (id, user_id, sku_id, quantity, created_at, updated_at) " +
+            "VALUES (nextval('cart_item_seq'), ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (user_id, sku_id) DO UPDATE " +
+            "SET quantity = %s, updated_at = EXCLUDED.updated_at";
+
+    // 그 외 DB(H2 등): 표준 MERGE
+    private static final String UPSERT_MERGE =
+            "MERGE INTO cart_item t " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS INTEGER), CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP))) " +
+            "AS s (user_id, sku_id, quantity, created_at, updated_at) " +
+            "ON t.user_id = s.user_id AND t.sku_id = s.sku_id " +
+            "WHEN MATCHED THEN UPDATE SET quantity = %s, updated_at = s.updated_at " +
+            "WHEN NOT MATCHED THEN INSERT (id, user_id, sku_id, quantity, created_at, updated_at) " +
+            "VALUES (NEXT VALUE FOR cart_item_seq, s.user_id, s.sku_id, s.quantity, s.created_at, s.updated_at)";
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    private volatile Boolean postgres;
 
     @Override
     public List<CartItem> findByUserIdWithDetails(Long userId) {
@@ -27,4 +55,61 @@ public class CartRepositoryImpl implements CartRepositoryCustom {
                 .where(cartItem.userId.eq(userId))
                 .fetch();
     }
+
+    @Override
+    public List<CartResponse> findResponsesByUserId(Long userId) {
+        return queryFactory
+                .select(Projections.constructor(CartResponse.class,
+                        sku.id,
+                        product.name,
+                        sku.skuCode,
+                        sku.attributes,
+                        product.basePrice,
+                        sku.additionalPrice,
+                        cartItem.quantity))
+                .from(cartItem)
+                .join(sku).on(cartItem.skuId.eq(sku.id))
+                .join(sku.product, product)
+                .where(cartItem.userId.eq(userId))
+                .fetch();
+    }
+
+    @Override
+    public void addQuantities(Long userId, Map<Long, Integer> quantities) {
+        upsert(userId, quantities, isPostgres()
+                ? UPSERT_POSTGRES.formatted("cart_item.quantity + EXCLUDED.quantity")
+                : UPSERT_MERGE.formatted("t.quantity + s.quantity"));
+    }
+
+    @Override
+    public void setQuantities(Long userId, Map<Long, Integer> quantities) {
+        upsert(userId, quantities, isPostgres()
+                ? UPSERT_POSTGRES.formatted("EXCLUDED.quantity")
+                : UPSERT_MERGE.formatted("s.quantity"));
+    }
+
+    private void upsert(Long userId, Map<Long, Integer> quantities, String sql) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(quantities.size());
+        quantities.forEach((skuId, quantity) -> rows.add(new Object[]{userId, skuId, quantity, now, now}));
+
+        // JDBC로 직접 반영하므로 @Modifying(flushAutomatically, clearAutomatically)와 같이 영속성 컨텍스트 동기화
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(sql, rows);
+        entityManager.clear();
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            result = "PostgreSQL".equalsIgnoreCase(product);
+            postgres = result;
+        }
+        return result;
+    }
 }
@@ -0,0 +1,209 @@
+package com.mall.cart.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 장바구니 Write-behind 저장소 (mall.cart.write-behind.enabled=true)
+ * - cart:wb:{userId} : 장바구니 전체 (SKU ID -> 수량, 0은 삭제 표시) + 변경 버전(_v), 비우기 횟수(_e), 비움 표시(_c)
+ * - cart:wb:dirty    : DB에 반영할 회원 ID 집합 (DB 반영이 끝난 뒤에야 제거되므로 반영 중 장애가 나도 유실되지 않음)
+ * Hash는 첫 변경 시 DB 상태로 적재되고, DB 반영 후 그 사이 변경이 없을 때만 삭제된다.
+ * 장바구니를 비우면 Hash를 지우지 않고 버전을 올린 비움 표시(Tombstone)로 바꿔, 이전 버전을 읽은 Flusher가 되살리지 못하게 한다.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "mall.cart.write-behind", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CartWriteBehindRepository {
+
+    public static final long NOT_LOADED = -2L;
+
+    public static final long FLUSHED = 1L;
+    public static final long CHANGED = 0L;
+    public static final long CLEARED = -1L;
+
+    private static final String CART_PREFIX = "cart:wb:";
+    private static final String DIRTY_KEY = "cart:wb:dirty";
+    private static final String VERSION_FIELD = "_v";
+    private static final String EPOCH_FIELD = "_e";
+    private static final String CLEARED_FIELD = "_c";
+    private static final long TOMBSTONE_TTL_SECONDS = 300;
+
+    // ARGV: skuId, 수량 쌍
+    private static final String LOAD_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('HSET', KEYS[1], '_v', 0) " +
+            "for i = 1, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "return 1";
+
+    // ARGV: 'add' | 'set', userId, skuId, 수량 쌍...
+    // set은 장바구니에 있는 SKU만 변경 (0은 삭제 표시), 비움 표시 상태에서 변경되면 빈 장바구니로 이어서 사용
+    private static final String MUTATE_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end " +
+            "local changed = 0 " +
+            "for i = 3, #ARGV, 2 do " +
+            "  if ARGV[1] == 'add' then " +
+            "    redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+            "    changed = 1 " +
+            "  elseif tonumber(redis.call('HGET', KEYS[1], ARGV[i]) or '0') > 0 then " +
+            "    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+            "    changed = 1 " +
+            "  end " +
+            "end " +
+            "if changed == 1 then " +
+            "  if redis.call('HDEL', KEYS[1], '_c') == 1 then redis.call('PERSIST', KEYS[1]) end " +
+            "  redis.call('HINCRBY', KEYS[1], '_v', 1) " +
+            "  redis.call('SADD', KEYS[2], ARGV[2]) " +
+            "end " +
+            "return changed";
+
+    // DB 반영 중 변경이 없었을 때만 삭제하고 dirty 표시도 함께 제거 (이후 조회는 DB/캐시 경로)
+    // 그 사이 장바구니가 비워졌으면 -1 (반영한 행을 되돌려야 함)
+    // ARGV: userId, 조회 시점 버전, 조회 시점 비우기 횟수
+    private static final String COMPLETE_SCRIPT =
+            "if redis.call('HGET', KEYS[1], '_v') == ARGV[2] then " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "  redis.call('SREM', KEYS[2], ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "if (redis.call('HGET', KEYS[1], '_e') or '0') ~= ARGV[3] then return -1 end " +
+            "return 0";
+
+    // 버전과 비우기 횟수를 올린 비움 표시만 남기고 dirty 표시 제거 (ARGV: userId, TTL 초)
+    private static final String CLEAR_SCRIPT =
+            "local v = tonumber(redis.call('HGET', KEYS[1], '_v') or '0') + 1 " +
+            "local e = tonumber(redis.call('HGET', KEYS[1], '_e') or '0') + 1 " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], '_v', v, '_e', e, '_c', 1) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "redis.call('SREM', KEYS[2], ARGV[1]) " +
+            "return v";
+
+    // 비움 표시가 아니고 버전이 그대로인지 확인 (DB 반영 트랜잭션 커밋 전 확인용)
+    private static final String IS_CURRENT_SCRIPT =
+            "if redis.call('HEXISTS', KEYS[1], '_c') == 1 then return 0 end " +
+            "if redis.call('HGET', KEYS[1], '_v') ~= ARGV[1] then return 0 end " +
+            "return 1";
+
+    private final RedissonClient redissonClient;
+
+    public void loadIfAbsent(Long userId, Map<Long, Integer> quantities) {
+        List<Object> args = new ArrayList<>(quantities.size() * 2);
+        quantities.forEach((skuId, quantity) -> {
+            args.add(skuId);
+            args.add(quantity);
+        });
+        script().eval(RScript.Mode.READ_WRITE, LOAD_SCRIPT, RScript.ReturnType.LONG,
+                List.of(cartKey(userId)), args.toArray());
+    }
+
+    /**
+     * @return 변경 여부(1/0), Hash 미적재 시 {@link #NOT_LOADED}
+     */
+    public long add(Long userId, Map<Long, Integer> quantities) {
+        return mutate("add", userId, quantities);
+    }
+
+    /**
+     * @return 변경 여부(1/0), Hash 미적재 시 {@link #NOT_LOADED}
+     */
+    public long set(Long userId, Map<Long, Integer> quantities) {
+        return mutate("set", userId, quantities);
+    }
+
+    /**
+     * @return 미반영 장바구니 (삭제 표시 포함), Hash가 없으면 null
+     */
+    public Pending find(Long userId) {
+        Map<String, String> entries = redissonClient.<String, String>getMap(cartKey(userId), StringCodec.INSTANCE).readAllMap();
+        if (entries.isEmpty()) {
+            return null;
+        }
+        Map<Long, Integer> quantities = new HashMap<>();
+        long version = 0;
+        long epoch = 0;
+        boolean cleared = false;
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            switch (entry.getKey()) {
+                case VERSION_FIELD -> version = Long.parseLong(entry.getValue());
+                case EPOCH_FIELD -> epoch = Long.parseLong(entry.getValue());
+                case CLEARED_FIELD -> cleared = true;
+                default -> quantities.put(Long.valueOf(entry.getKey()), Integer.valueOf(entry.getValue()));
+            }
+        }
+        return new Pending(quantities, version, epoch, cleared);
+    }
+
+    /**
+     * 조회한 버전이 아직 최신인지 확인 (그 사이 변경되거나 비워졌으면 false)
+     */
+    public boolean isCurrent(Long userId, long version) {
+        Long result = script().eval(RScript.Mode.READ_ONLY, IS_CURRENT_SCRIPT, RScript.ReturnType.LONG,
+                List.of(cartKey(userId)), version);
+        return result == 1L;
+    }
+
+    /**
+     * @return {@link #FLUSHED}, 반영 중 변경되었으면 {@link #CHANGED}, 반영 중 비워졌으면 {@link #CLEARED}
+     */
+    public long completeFlush(Long userId, Pending pending) {
+        Long result = script().eval(RScript.Mode.READ_WRITE, COMPLETE_SCRIPT, RScript.ReturnType.LONG,
+                List.of(cartKey(userId), DIRTY_KEY), userId, pending.version(), pending.epoch());
+        return result;
+    }
+
+    /**
+     * DB에 반영할 회원을 SSCAN 커서로 count명씩 순회 (집합에서 제거하지 않음, 반영 완료 시 {@link #completeFlush}가 제거)
+     * 순회 내내 집합에 남아 있는 회원은 반드시 한 번 이상 반환된다. (순회 중 추가된 회원은 빠질 수 있고, 중복 반환될 수 있음)
+     */
+    public Iterator<String> scanDirty(int count) {
+        return redissonClient.<String>getSet(DIRTY_KEY, StringCodec.INSTANCE).iterator(count);
+    }
+
+    /**
+     * 장바구니 비우기: 비움 표시를 남기고 dirty 표시 제거
+     */
+    public void clear(Long userId) {
+        script().eval(RScript.Mode.READ_WRITE, CLEAR_SCRIPT, RScript.ReturnType.LONG,
+                List.of(cartKey(userId), DIRTY_KEY), userId, TOMBSTONE_TTL_SECONDS);
+    }
+
+    private long mutate(String op, Long userId, Map<Long, Integer> quantities) {
+        List<Object> args = new ArrayList<>(2 + quantities.size() * 2);
+        args.add(op);
+        args.add(userId);
+        quantities.forEach((skuId, quantity) -> {
+            args.add(skuId);
+            args.add(quantity);
+        });
+        Long result = script().eval(RScript.Mode.READ_WRITE, MUTATE_SCRIPT, RScript.ReturnType.LONG,
+                List.of(cartKey(userId), DIRTY_KEY), args.toArray());
+        return result;
+    }
+
+    private RScript script() {
+        return redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    private String cartKey(Long userId) {
+        return CART_PREFIX + userId;
+    }
+
+    /**
+     * @param quantities SKU ID별 수량 (0은 삭제 표시)
+     * @param version    조회 시점의 변경 버전
+     * @param epoch      조회 시점의 비우기 횟수
+     * @param cleared    비움 표시 여부 (비운 뒤 변경 없음)
+     */
+    public record Pending(Map<Long, Integer> quantities, long version, long epoch, boolean cleared) {
+    }
+}
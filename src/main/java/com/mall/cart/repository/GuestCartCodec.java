@@ -0,0 +1,51 @@
+package com.mall.cart.repository;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 비회원 장바구니(SKU ID -> 수량) 전용 Redisson 코덱
+ * 키와 값을 10진수 문자열로 저장한다. Redis는 정수로 해석되는 필드/값을 listpack 안에서
+ * 정수 인코딩(1~9바이트)으로 보관하므로, 클래스 정보가 붙는 기본 코덱보다 장바구니당 메모리가 크게 줄어든다.
+ */
+public class GuestCartCodec extends BaseCodec {
+
+    public static final GuestCartCodec INSTANCE = new GuestCartCodec();
+
+    private final Encoder encoder = in -> {
+        ByteBuf out = ByteBufAllocator.DEFAULT.buffer();
+        out.writeCharSequence(String.valueOf(in), StandardCharsets.US_ASCII);
+        return out;
+    };
+
+    private final Decoder<Object> skuIdDecoder =
+            (buf, state) -> Long.valueOf(buf.toString(StandardCharsets.US_ASCII));
+
+    private final Decoder<Object> quantityDecoder =
+            (buf, state) -> Integer.valueOf(buf.toString(StandardCharsets.US_ASCII));
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return skuIdDecoder;
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return encoder;
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return quantityDecoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+}
@@ -0,0 +1,68 @@
+package com.mall.cart.repository;
+
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비회원 장바구니 저장소
+ * - cart:guest:{token} : SKU ID -> 수량 ({@link GuestCartCodec}, 24시간 TTL)
+ * - temp_cart:{token}  : 기본 코덱으로 저장된 이전 형식. 조회 시 새 키로 옮긴다.
+ *   이전 형식은 최대 24시간이면 모두 만료되므로, 이후에는 mall.cart.guest-legacy-migration=false로 끈다.
+ */
+@Repository
+public class GuestCartRepository {
+
+    public static final long TTL_HOURS = 24;
+
+    private static final String KEY_PREFIX = "cart:guest:";
+    private static final String LEGACY_KEY_PREFIX = "temp_cart:";
+
+    private final RedissonClient redissonClient;
+    private final boolean migrateLegacy;
+
+    public GuestCartRepository(RedissonClient redissonClient,
+                               @Value("${mall.cart.guest-legacy-migration:true}") boolean migrateLegacy) {
+        this.redissonClient = redissonClient;
+        this.migrateLegacy = migrateLegacy;
+    }
+
+    public RMap<Long, Integer> getCart(String guestToken) {
+        RMap<Long, Integer> cart = redissonClient.getMap(key(guestToken), GuestCartCodec.INSTANCE);
+        if (migrateLegacy) {
+            migrateLegacyCart(guestToken, cart);
+        }
+        return cart;
+    }
+
+    public void delete(RBatch batch, String guestToken) {
+        batch.getMap(key(guestToken), GuestCartCodec.INSTANCE).deleteAsync();
+    }
+
+    public static String key(String guestToken) {
+        return KEY_PREFIX + guestToken;
+    }
+
+    /**
+     * 이전 형식 키가 있을 때만 전체를 읽는다. 대부분의 조회는 이전 형식이 없으므로 O(1) EXISTS 한 번으로 끝난다.
+     * (이전 형식 값은 Redisson 기본 코덱으로 직렬화되어 있어 Lua에서 새 형식으로 변환할 수 없음)
+     */
+    private void migrateLegacyCart(String guestToken, RMap<Long, Integer> cart) {
+        RMap<Long, Integer> legacy = redissonClient.getMap(LEGACY_KEY_PREFIX + guestToken);
+        if (!legacy.isExists()) {
+            return;
+        }
+        Map<Long, Integer> items = legacy.readAllMap();
+        if (items.isEmpty()) {
+            return;
+        }
+        cart.putAll(items);
+        cart.expire(TTL_HOURS, TimeUnit.HOURS);
+        legacy.delete();
+    }
+}
@@ -0,0 +1,55 @@
+package com.mall.cart.scheduler;
+
+import com.mall.cart.repository.CartWriteBehindRepository;
+import com.mall.cart.service.UserCartStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+@Component
+@ConditionalOnProperty(prefix = "mall.cart.write-behind", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class CartWriteBehindFlusher {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final CartWriteBehindRepository cartWriteBehindRepository;
+    private final UserCartStore userCartStore;
+
+    /**
+     * 변경된 회원 장바구니를 SSCAN 커서로 BATCH_SIZE명씩 순회해 DB에 반영
+     * 커서가 집합 전체를 한 번 훑으므로, 주기가 시작될 때 dirty였던 회원은 모두 시도된다.
+     * dirty 표시는 반영이 끝난 뒤 제거되므로, 실패하거나 반영 중 종료되어도 다음 주기에 다시 시도된다.
+     * 한 주기에 같은 회원은 한 번만 시도한다. (SSCAN은 같은 회원을 중복 반환할 수 있음)
+     */
+    @Scheduled(fixedDelayString = "${mall.cart.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        int flushed = 0;
+        Set<String> attempted = new HashSet<>();
+        Iterator<String> dirty = cartWriteBehindRepository.scanDirty(BATCH_SIZE);
+        while (dirty.hasNext()) {
+            String id = dirty.next();
+            if (!attempted.add(id)) {
+                continue;
+            }
+            Long userId = Long.valueOf(id);
+            try {
+                userCartStore.flush(userId);
+                flushed++;
+            } catch (Exception e) {
+                log.error("Failed to flush cart. Will retry. User: {}", userId, e);
+            }
+        }
+
+        if (flushed > 0) {
+            log.info("Flushed {} user carts to DB", flushed);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.mall.cart.service;
+
+import com.mall.cart.repository.CartRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Write-behind 장바구니를 하나의 트랜잭션으로 CartItem 테이블에 반영하는 컴포넌트
+ */
+@Component
+@ConditionalOnProperty(prefix = "mall.cart.write-behind", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class CartItemWriter {
+
+    private final CartRepository cartRepository;
+
+    /**
+     * 수량이 있는 SKU는 Upsert, 0(삭제 표시)인 SKU는 삭제
+     * 호출자 트랜잭션(주문 생성 등)과 무관하게 커밋되도록 별도 트랜잭션으로 실행한다.
+     * 커밋 직전에 stillCurrent로 반영 대상이 여전히 최신인지 확인하고, 아니면 롤백한다. (그 사이 비워진 장바구니를 되살리지 않도록)
+     * @return 반영(커밋)되었으면 true
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean apply(Long userId, Map<Long, Integer> quantities, BooleanSupplier stillCurrent) {
+        Map<Long, Integer> upserts = new HashMap<>();
+        List<Long> removals = new ArrayList<>();
+        quantities.forEach((skuId, quantity) -> {
+            if (quantity > 0) {
+                upserts.put(skuId, quantity);
+            } else {
+                removals.add(skuId);
+            }
+        });
+
+        if (!upserts.isEmpty()) {
+            cartRepository.setQuantities(userId, upserts);
+        }
+        if (!removals.isEmpty()) {
+            cartRepository.deleteByUserIdAndSkuIds(userId, removals);
+        }
+
+        if (!stillCurrent.getAsBoolean()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 반영 직후 장바구니가 비워진 것이 확인되면 반영한 행을 다시 삭제
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void revert(Long userId, Collection<Long> skuIds) {
+        if (!skuIds.isEmpty()) {
+            cartRepository.deleteByUserIdAndSkuIds(userId, skuIds);
+        }
+    }
+}
@@ -10,4 +10,9 @@ public interface CartService {
     List<CartResponse> getCartItems(Long userId, String guestToken);
     void mergeGuestCart(Long userId, String guestToken);
     void clearCart(Long userId);
+
+    /**
+     * 회원 장바구니의 미반영 변경(Write-behind)을 DB에 즉시 반영. 주문 생성 전에 호출한다.
+     */
+    void flush(Long userId);
 }
@@ -1,19 +1,19 @@
 package com.mall.cart.service;
 
-import com.mall.cart.domain.CartItem;
 import com.mall.cart.dto.CartResponse;
 import com.mall.cart.repository.CartRepository;
-import com.mall.product.domain.Product;
-import com.mall.product.domain.Sku;
-import com.mall.product.repository.SkuRepository;
+import com.mall.cart.repository.GuestCartRepository;
+import com.mall.product.dto.SkuSnapshot;
+import com.mall.product.service.SkuCatalogView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
 import org.redisson.api.RMap;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -26,29 +26,21 @@ import java.util.stream.Collectors;
 public class CartServiceImpl implements CartService {
 
     private final CartRepository cartRepository;
-    private final SkuRepository skuRepository;
+    private final SkuCatalogView skuCatalogView;
     private final RedissonClient redissonClient;
-
-    private static final String GUEST_CART_PREFIX = "temp_cart:";
-    private static final String USER_CART_CACHE_PREFIX = "cart:user:";
+    private final UserCartCache userCartCache;
+    private final UserCartStore userCartStore;
+    private final GuestCartRepository guestCartRepository;
 
     @Override
     @Transactional
     public void addItem(Long userId, String guestToken, Long skuId, int quantity) {
         if (userId != null) {
-            CartItem cartItem = cartRepository.findByUserIdAndSkuId(userId, skuId)
-                    .orElseGet(() -> CartItem.builder()
-                            .userId(userId)
-                            .skuId(skuId)
-                            .quantity(0)
-                            .build());
-            cartItem.addQuantity(quantity);
-            cartRepository.save(cartItem);
-            evictUserCartCache(userId);
+            userCartStore.add(userId, skuId, quantity);
         } else {
             RMap<Long, Integer> guestCart = getGuestCart(guestToken);
             guestCart.merge(skuId, quantity, Integer::sum);
-            guestCart.expire(24, TimeUnit.HOURS);
+            guestCart.expire(GuestCartRepository.TTL_HOURS, TimeUnit.HOURS);
         }
     }
 
@@ -56,12 +48,7 @@ public class CartServiceImpl implements CartService {
     @Transactional
     public void updateQuantity(Long userId, String guestToken, Long skuId, int quantity) {
         if (userId != null) {
-            cartRepository.findByUserIdAndSkuId(userId, skuId)
-                    .ifPresent(item -> {
-                        item.updateQuantity(quantity);
-                        cartRepository.save(item);
-                        evictUserCartCache(userId);
-                    });
+            userCartStore.update(userId, skuId, quantity);
         } else {
             RMap<Long, Integer> guestCart = getGuestCart(guestToken);
             if (quantity > 0) {
@@ -76,11 +63,7 @@ public class CartServiceImpl implements CartService {
     @Transactional
     public void removeItem(Long userId, String guestToken, Long skuId) {
         if (userId != null) {
-            cartRepository.findByUserIdAndSkuId(userId, skuId)
-                    .ifPresent(item -> {
-                        cartRepository.delete(item);
-                        evictUserCartCache(userId);
-                    });
+            userCartStore.remove(userId, skuId);
         } else {
             getGuestCart(guestToken).remove(skuId);
         }
@@ -90,19 +73,24 @@ public class CartServiceImpl implements CartService {
     @Transactional(readOnly = true)
     public List<CartResponse> getCartItems(Long userId, String guestToken) {
         if (userId != null) {
-            // [PERF-DEBT: PHASE-4-HYBRID] - Later we can check Redis cache first
-            return cartRepository.findByUserIdWithDetails(userId).stream()
-                    .map(this::mapToResponse)
-                    .collect(Collectors.toList());
+            // Write-behind 모드에서 DB에 아직 반영되지 않은 변경이 있으면 그것이 최신 장바구니
+            Map<Long, Integer> pending = userCartStore.findPending(userId);
+            if (pending != null) {
+                return toResponses(pending);
+            }
+            // 쓰기 트랜잭션(주문 생성 등) 안에서는 캐시를 거치지 않고 DB를 읽는다.
+            if (!isCacheable()) {
+                return loadUserCart(userId);
+            }
+            UserCartCache.Lookup lookup = userCartCache.lookup(userId);
+            if (lookup.isHit()) {
+                return lookup.items();
+            }
+            List<CartResponse> items = loadUserCart(userId);
+            userCartCache.putIfVersion(userId, lookup, items);
+            return items;
         } else {
-            RMap<Long, Integer> guestCart = getGuestCart(guestToken);
-            return guestCart.entrySet().stream()
-                    .map(entry -> {
-                        Sku sku = skuRepository.findById(entry.getKey())
-                                .orElseThrow(() -> new IllegalArgumentException("Invalid Sku ID: " + entry.getKey()));
-                        return mapToResponse(sku, entry.getValue());
-                    })
-                    .collect(Collectors.toList());
+            return toResponses(getGuestCart(guestToken).readAllMap());
         }
     }
 
@@ -111,48 +99,70 @@ public class CartServiceImpl implements CartService {
     public void mergeGuestCart(Long userId, String guestToken) {
         if (guestToken == null) return;
 
-        RMap<Long, Integer> guestCart = getGuestCart(guestToken);
-        if (guestCart.isEmpty()) return;
+        // 1. 비회원 장바구니 전체를 한 번에 조회 (HGETALL)
+        Map<Long, Integer> guestItems = getGuestCart(guestToken).readAllMap();
+        if (guestItems.isEmpty()) return;
 
         log.info("Merging guest cart for user: {}, token: {}", userId, guestToken);
-        guestCart.forEach((skuId, quantity) -> addItem(userId, null, skuId, quantity));
-        
-        guestCart.clear();
-        evictUserCartCache(userId);
+
+        // 2. 모든 항목을 하나의 배치 Upsert로 반영
+        userCartStore.addAll(userId, guestItems);
+
+        // 3. 비회원 장바구니 삭제 + 회원 캐시 무효화를 Redis 배치 한 번으로
+        RBatch batch = redissonClient.createBatch();
+        guestCartRepository.delete(batch, guestToken);
+        userCartCache.evict(batch, userId);
+        batch.execute();
     }
 
     @Override
     @Transactional
     public void clearCart(Long userId) {
-        cartRepository.deleteByUserId(userId);
-        evictUserCartCache(userId);
+        userCartStore.clear(userId);
+    }
+
+    @Override
+    public void flush(Long userId) {
+        userCartStore.flush(userId);
     }
 
     private RMap<Long, Integer> getGuestCart(String guestToken) {
-        return redissonClient.getMap(GUEST_CART_PREFIX + guestToken);
+        return guestCartRepository.getCart(guestToken);
+    }
+
+    private List<CartResponse> toResponses(Map<Long, Integer> quantities) {
+        Map<Long, SkuSnapshot> snapshots = skuCatalogView.findSnapshots(quantities.keySet());
+        return quantities.entrySet().stream()
+                .map(entry -> mapToResponse(snapshot(snapshots, entry.getKey()), entry.getValue()))
+                .collect(Collectors.toList());
     }
 
-    private void evictUserCartCache(Long userId) {
-        redissonClient.getBucket(USER_CART_CACHE_PREFIX + userId).delete();
+    private List<CartResponse> loadUserCart(Long userId) {
+        return cartRepository.findResponsesByUserId(userId);
     }
 
-    private CartResponse mapToResponse(CartItem item) {
-        Sku sku = skuRepository.findById(item.getSkuId())
-                .orElseThrow(() -> new IllegalArgumentException("Invalid Sku ID"));
-        return mapToResponse(sku, item.getQuantity());
+    private boolean isCacheable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private SkuSnapshot snapshot(Map<Long, SkuSnapshot> snapshots, Long skuId) {
+        SkuSnapshot snapshot = snapshots.get(skuId);
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Invalid Sku ID: " + skuId);
+        }
+        return snapshot;
     }
 
-    private CartResponse mapToResponse(Sku sku, int quantity) {
-        Product product = sku.getProduct();
-        BigDecimal price = product.getBasePrice().add(sku.getAdditionalPrice());
+    // JMH 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+    CartResponse mapToResponse(SkuSnapshot sku, int quantity) {
         return new CartResponse(
-                sku.getId(),
-                product.getName(),
-                sku.getSkuCode(),
-                sku.getAttributes(),
-                price,
-                quantity,
-                price.multiply(BigDecimal.valueOf(quantity))
+                sku.skuId(),
+                sku.productName(),
+                sku.skuCode(),
+                sku.attributes(),
+                sku.price(),
+                quantity
         );
     }
 }
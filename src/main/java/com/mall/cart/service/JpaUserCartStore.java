@@ -0,0 +1,70 @@
+package com.mall.cart.service;
+
+import com.mall.cart.domain.CartItem;
+import com.mall.cart.repository.CartRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(prefix = "mall.cart.write-behind", name = "enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaUserCartStore implements UserCartStore {
+
+    private final CartRepository cartRepository;
+    private final UserCartCache userCartCache;
+
+    @Override
+    public void add(Long userId, Long skuId, int quantity) {
+        CartItem cartItem = cartRepository.findByUserIdAndSkuId(userId, skuId)
+                .orElseGet(() -> CartItem.builder()
+                        .userId(userId)
+                        .skuId(skuId)
+                        .quantity(0)
+                        .build());
+        cartItem.addQuantity(quantity);
+        cartRepository.save(cartItem);
+        userCartCache.evict(userId);
+    }
+
+    @Override
+    public void update(Long userId, Long skuId, int quantity) {
+        cartRepository.findByUserIdAndSkuId(userId, skuId)
+                .ifPresent(item -> {
+                    item.updateQuantity(quantity);
+                    cartRepository.save(item);
+                    userCartCache.evict(userId);
+                });
+    }
+
+    @Override
+    public void remove(Long userId, Long skuId) {
+        cartRepository.findByUserIdAndSkuId(userId, skuId)
+                .ifPresent(item -> {
+                    cartRepository.delete(item);
+                    userCartCache.evict(userId);
+                });
+    }
+
+    @Override
+    public void addAll(Long userId, Map<Long, Integer> quantities) {
+        cartRepository.addQuantities(userId, quantities);
+    }
+
+    @Override
+    public void clear(Long userId) {
+        cartRepository.deleteByUserId(userId);
+        userCartCache.evict(userId);
+    }
+
+    @Override
+    public Map<Long, Integer> findPending(Long userId) {
+        return null;
+    }
+
+    @Override
+    public void flush(Long userId) {
+    }
+}
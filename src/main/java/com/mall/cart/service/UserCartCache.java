@@ -0,0 +1,158 @@
+package com.mall.cart.service;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.mall.cart.dto.CartResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 장바구니 Read-through 캐시
+ * - cart:user:{userId}         : 직렬화된 장바구니 (필드명 없는 배열 형식 JSON)
+ * - cart:user:{userId}:version : 무효화 버전. 무효화마다 증가한다.
+ * 적재는 조회 시작 시점의 버전이 그대로일 때만 저장되므로, 적재 도중 무효화가 일어나면 오래된 데이터가 캐시되지 않는다.
+ */
+@Component
+@Slf4j
+public class UserCartCache {
+
+    private static final String CACHE_PREFIX = "cart:user:";
+    private static final String VERSION_SUFFIX = ":version";
+
+    // 데이터와 버전을 한 번에 조회 (캐시 미스 시 추가 왕복 없이 적재 버전 확보)
+    private static final String LOOKUP_SCRIPT =
+            "return {redis.call('GET', KEYS[1]) or '', redis.call('GET', KEYS[2]) or '0'}";
+
+    private static final String PUT_IF_VERSION_SCRIPT =
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "return 1";
+
+    // 버전 키는 데이터보다 오래 유지 (만료되어 0으로 돌아가도 진행 중인 적재는 버전 불일치로 버려짐)
+    private static final String EVICT_SCRIPT =
+            "redis.call('DEL', KEYS[1]) " +
+            "local version = redis.call('INCR', KEYS[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "return version";
+
+    private static final TypeReference<List<CartResponse>> CART_TYPE = new TypeReference<>() {
+    };
+
+    private final RedissonClient redissonClient;
+    private final JsonMapper jsonMapper;
+    private final long ttlMillis;
+
+    public UserCartCache(RedissonClient redissonClient,
+                         JsonMapper jsonMapper,
+                         @Value("${mall.cart.user-cache-ttl-minutes:30}") long ttlMinutes) {
+        this.redissonClient = redissonClient;
+        // 애플리케이션 설정을 그대로 쓰고, 캐시 값만 배열 형식으로 직렬화
+        this.jsonMapper = jsonMapper.rebuild()
+                .addMixIn(CartResponse.class, CompactCartResponse.class)
+                .build();
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+    }
+
+    /**
+     * @return 캐시 히트 시 장바구니, 미스 시 적재에 사용할 버전. Redis 장애 시 캐시를 사용하지 않는 미스.
+     */
+    public Lookup lookup(Long userId) {
+        try {
+            List<Object> result = script().eval(RScript.Mode.READ_ONLY, LOOKUP_SCRIPT, RScript.ReturnType.LIST,
+                    List.of(cacheKey(userId), versionKey(userId)));
+            String version = String.valueOf(result.get(1));
+            String payload = String.valueOf(result.get(0));
+            if (payload.isEmpty()) {
+                return new Lookup(null, version);
+            }
+            return new Lookup(jsonMapper.readValue(payload, CART_TYPE), version);
+        } catch (RedisException | JacksonException e) {
+            log.warn("User cart cache lookup failed. User: {}", userId, e);
+            return new Lookup(null, null);
+        }
+    }
+
+    public void putIfVersion(Long userId, Lookup lookup, List<CartResponse> items) {
+        if (lookup.version() == null) {
+            return;
+        }
+        try {
+            script().eval(RScript.Mode.READ_WRITE, PUT_IF_VERSION_SCRIPT, RScript.ReturnType.LONG,
+                    List.of(cacheKey(userId), versionKey(userId)),
+                    lookup.version(), jsonMapper.writeValueAsString(items), ttlMillis);
+        } catch (RedisException | JacksonException e) {
+            log.warn("User cart cache store failed. User: {}", userId, e);
+        }
+    }
+
+    /**
+     * 캐시 무효화
+     * 트랜잭션 안에서는 커밋 전 무효화와 커밋 사이에 이전 데이터가 다시 적재될 수 있으므로 커밋 후 한 번 더 무효화한다.
+     */
+    public void evict(Long userId) {
+        evictNow(userId);
+        evictAfterCommit(userId);
+    }
+
+    /**
+     * 다른 Redis 명령과 같은 배치로 무효화 (배치 실행은 호출자 책임)
+     */
+    public void evict(RBatch batch, Long userId) {
+        batch.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, EVICT_SCRIPT, RScript.ReturnType.LONG,
+                List.of(cacheKey(userId), versionKey(userId)), ttlMillis * 2);
+        evictAfterCommit(userId);
+    }
+
+    private void evictAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long userId) {
+        script().eval(RScript.Mode.READ_WRITE, EVICT_SCRIPT, RScript.ReturnType.LONG,
+                List.of(cacheKey(userId), versionKey(userId)), ttlMillis * 2);
+    }
+
+    private RScript script() {
+        return redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    private String cacheKey(Long userId) {
+        return CACHE_PREFIX + userId;
+    }
+
+    private String versionKey(Long userId) {
+        return CACHE_PREFIX + userId + VERSION_SUFFIX;
+    }
+
+    public record Lookup(List<CartResponse> items, String version) {
+        public boolean isHit() {
+            return items != null;
+        }
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"skuId", "productName", "skuCode", "attributes", "price", "quantity", "subTotal"})
+    private interface CompactCartResponse {
+    }
+}
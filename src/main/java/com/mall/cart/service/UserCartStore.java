@@ -0,0 +1,31 @@
+package com.mall.cart.service;
+
+import java.util.Map;
+
+/**
+ * 회원 장바구니 쓰기 저장소 (mall.cart.write-behind.enabled로 선택)
+ * - false: CartItem 테이블에 즉시 반영 (기본값)
+ * - true : Redis Hash에 반영 후 주기적으로/주문 시 DB에 일괄 반영 (Write-behind)
+ */
+public interface UserCartStore {
+    void add(Long userId, Long skuId, int quantity);
+    void update(Long userId, Long skuId, int quantity);
+    void remove(Long userId, Long skuId);
+
+    /**
+     * 여러 SKU 수량을 더함. 회원 캐시 무효화는 호출자가 처리한다. (비회원 장바구니 삭제와 같은 Redis 배치)
+     */
+    void addAll(Long userId, Map<Long, Integer> quantities);
+
+    void clear(Long userId);
+
+    /**
+     * @return DB에 아직 반영되지 않은 장바구니 전체 (SKU별 수량), 없으면 null (DB가 최신)
+     */
+    Map<Long, Integer> findPending(Long userId);
+
+    /**
+     * 미반영 변경을 DB에 즉시 반영
+     */
+    void flush(Long userId);
+}
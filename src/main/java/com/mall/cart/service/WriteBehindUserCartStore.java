@@ -0,0 +1,119 @@
+package com.mall.cart.service;
+
+import com.mall.cart.domain.CartItem;
+import com.mall.cart.repository.CartRepository;
+import com.mall.cart.repository.CartWriteBehindRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 장바구니 변경을 Redis Hash에 원자적으로 반영하고, DB에는 주기적으로/주문 시 일괄 반영
+ * 같은 SKU에 대한 연속 변경은 Hash 안에서 합쳐져 DB에는 마지막 수량만 기록된다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "mall.cart.write-behind", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class WriteBehindUserCartStore implements UserCartStore {
+
+    private final CartRepository cartRepository;
+    private final CartWriteBehindRepository cartWriteBehindRepository;
+    private final CartItemWriter cartItemWriter;
+    private final UserCartCache userCartCache;
+
+    @Override
+    public void add(Long userId, Long skuId, int quantity) {
+        addAll(userId, Map.of(skuId, quantity));
+    }
+
+    @Override
+    public void update(Long userId, Long skuId, int quantity) {
+        mutate(userId, Map.of(skuId, Math.max(quantity, 0)), false);
+    }
+
+    @Override
+    public void remove(Long userId, Long skuId) {
+        mutate(userId, Map.of(skuId, 0), false);
+    }
+
+    @Override
+    public void addAll(Long userId, Map<Long, Integer> quantities) {
+        mutate(userId, quantities, true);
+    }
+
+    @Override
+    public void clear(Long userId) {
+        // 비움 표시를 먼저 남겨, 이후 커밋하려는 Flusher가 이전 버전을 DB에 반영하지 못하게 한다
+        cartWriteBehindRepository.clear(userId);
+        cartRepository.deleteByUserId(userId);
+        userCartCache.evict(userId);
+    }
+
+    @Override
+    public Map<Long, Integer> findPending(Long userId) {
+        CartWriteBehindRepository.Pending pending = cartWriteBehindRepository.find(userId);
+        if (pending == null) {
+            return null;
+        }
+        if (pending.cleared()) {
+            return Map.of();
+        }
+        return pending.quantities().entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    @Override
+    public void flush(Long userId) {
+        CartWriteBehindRepository.Pending pending = cartWriteBehindRepository.find(userId);
+        if (pending == null || pending.cleared()) {
+            return;
+        }
+
+        // 조회 후 변경되었거나 비워졌으면 반영하지 않음 (dirty 표시가 남아 있으면 다음 주기에 최신 상태로 반영)
+        if (!cartItemWriter.apply(userId, pending.quantities(), () -> cartWriteBehindRepository.isCurrent(userId, pending.version()))) {
+            return;
+        }
+        userCartCache.evict(userId);
+
+        // 반영 중 새 변경이 들어왔으면 Hash와 dirty 표시를 남기고 다음 주기에 다시 반영
+        // 커밋 직전 확인 이후 장바구니가 비워졌으면 반영한 행을 되돌린다
+        if (cartWriteBehindRepository.completeFlush(userId, pending) == CartWriteBehindRepository.CLEARED) {
+            List<Long> upserted = pending.quantities().entrySet().stream()
+                    .filter(entry -> entry.getValue() > 0)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            cartItemWriter.revert(userId, upserted);
+            log.info("Cart was cleared while flushing. Reverted {} rows. User: {}", upserted.size(), userId);
+        }
+    }
+
+    private void mutate(Long userId, Map<Long, Integer> quantities, boolean add) {
+        if (apply(userId, quantities, add) != CartWriteBehindRepository.NOT_LOADED) {
+            return;
+        }
+
+        // 첫 변경: DB 장바구니를 Hash로 적재한 뒤 다시 반영
+        Map<Long, Integer> current = cartRepository.findByUserId(userId).stream()
+                .collect(Collectors.toMap(CartItem::getSkuId, CartItem::getQuantity));
+        cartWriteBehindRepository.loadIfAbsent(userId, current);
+
+        if (apply(userId, quantities, add) == CartWriteBehindRepository.NOT_LOADED) {
+            // 적재 직후 Flusher가 Hash를 정리한 경우
+            log.warn("Write-behind cart was evicted while loading. Retrying. User: {}", userId);
+            mutate(userId, quantities, add);
+        }
+    }
+
+    private long apply(Long userId, Map<Long, Integer> quantities, boolean add) {
+        return add
+                ? cartWriteBehindRepository.add(userId, quantities)
+                : cartWriteBehindRepository.set(userId, quantities);
+    }
+}
@@ -0,0 +1,49 @@
+package com.mall.common;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+
+/**
+ * 금액 값 타입 (최소 단위 정수, 소수점 {@value #SCALE}자리)
+ * 장바구니·주문 금액 계산을 BigDecimal 할당 없이 long 연산으로 처리하고,
+ * BigDecimal 변환은 API 응답(JSON)과 JPA 엔티티 경계에서만 한다.
+ * 연산 결과가 long 범위를 넘으면 ArithmeticException을 던진다.
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    /**
+     * @throws ArithmeticException 소수점 {@value #SCALE}자리를 넘거나 long 범위를 벗어나는 경우
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Money of(BigDecimal amount) {
+        return new Money(amount.movePointRight(SCALE).longValueExact());
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(int quantity) {
+        return new Money(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
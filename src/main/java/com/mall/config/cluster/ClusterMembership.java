@@ -0,0 +1,81 @@
+package com.mall.config.cluster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 살아 있는 애플리케이션 노드 목록 (Redis Sorted Set, score = 마지막 Heartbeat 시각)
+ * 각 노드는 노드 ID 정렬 순서를 자신의 파티션 번호로 사용해, 주기 작업을 노드 간에 겹치지 않게 나눈다.
+ * 노드가 추가/종료되는 동안에는 잠시 파티션이 겹치거나 비므로, 작업 자체는 중복 실행에 안전해야 한다.
+ */
+@Component
+@Slf4j
+public class ClusterMembership {
+
+    private static final String MEMBERS_KEY = "cluster:nodes";
+
+    private final RedissonClient redissonClient;
+    private final long nodeTtlMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ClusterMembership(RedissonClient redissonClient,
+                             @Value("${mall.cluster.heartbeat-interval-ms:5000}") long heartbeatIntervalMillis) {
+        this.redissonClient = redissonClient;
+        // Heartbeat를 연속 두 번 놓치면 종료된 노드로 간주
+        this.nodeTtlMillis = heartbeatIntervalMillis * 3;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Scheduled(fixedDelayString = "${mall.cluster.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        RScoredSortedSet<String> members = members();
+        members.add(now, nodeId);
+        members.removeRangeByScore(Double.NEGATIVE_INFINITY, true, now - nodeTtlMillis, false);
+    }
+
+    /**
+     * 현재 노드의 파티션 (Heartbeat를 먼저 갱신해 자신이 항상 포함되도록 한다)
+     */
+    public Partition partition() {
+        heartbeat();
+        List<String> liveNodes = new ArrayList<>(members().valueRange(
+                System.currentTimeMillis() - nodeTtlMillis, true, Double.POSITIVE_INFINITY, true));
+        Collections.sort(liveNodes);
+        return new Partition(liveNodes.indexOf(nodeId), liveNodes.size());
+    }
+
+    @PreDestroy
+    public void leave() {
+        try {
+            members().remove(nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to leave cluster membership. Node: {}", nodeId, e);
+        }
+    }
+
+    private RScoredSortedSet<String> members() {
+        return redissonClient.getScoredSortedSet(MEMBERS_KEY, StringCodec.INSTANCE);
+    }
+
+    /**
+     * @param index 0부터 count - 1까지의 파티션 번호
+     * @param count 살아 있는 노드 수
+     */
+    public record Partition(int index, int count) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.mall.config.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ADAPTIVE 락 모드의 키별 충돌률 측정
+ * 충돌 = 같은 키의 실행이 노드 내에서 겹침 또는 ConcurrencyFailureException 발생
+ * - 락 없는 실행: 겹치면 DB 행 락 대기
+ * - 락 모드 실행: 락 대기 중이거나 점유 중인 호출과 겹치면(대기열이 있으면) 락이 없었어도 충돌했을 호출
+ * 충돌률은 지수 이동 평균으로 계산하고, 임계값을 넘으면 락 모드로 전환한다.
+ * 락 모드에서도 같은 기준으로 측정하므로 경합이 계속되는 동안은 락 모드를 유지하고, 잦아들면 락 없는 실행으로 돌아간다.
+ */
+@Component
+public class ContentionTracker {
+
+    private static final double ALPHA = 0.1;
+    // 충돌률이 이 값 아래로 내려가고 실행 중인 호출이 없으면 키 상태를 제거
+    private static final double FORGET_BELOW = 0.01;
+    static final int MAX_TRACKED_KEYS = 10_000;
+
+    private final double lockThreshold;
+    private final ConcurrentHashMap<String, KeyState> states = new ConcurrentHashMap<>();
+
+    public ContentionTracker(@Value("${mall.lock.adaptive.conflict-threshold:0.2}") double lockThreshold) {
+        this.lockThreshold = lockThreshold;
+    }
+
+    /**
+     * @return 키 중 하나라도 충돌률이 임계값을 넘었다면 true (락 모드로 실행)
+     */
+    public boolean shouldLock(List<String> keys) {
+        for (String key : keys) {
+            KeyState state = states.get(key);
+            if (state != null && state.locking) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 실행 시작 (락 모드는 락 획득 전에 호출). 같은 키가 이미 실행 중이거나 락을 기다리고 있었으면 겹침으로 기록된다.
+     */
+    public Execution enter(List<String> keys) {
+        boolean[] overlapped = {false};
+        for (String key : keys) {
+            states.compute(key, (k, existing) -> {
+                if (existing == null && states.size() >= MAX_TRACKED_KEYS) {
+                    return null;
+                }
+                KeyState s = existing != null ? existing : new KeyState();
+                if (++s.inFlight > 1) {
+                    overlapped[0] = true;
+                }
+                return s;
+            });
+        }
+        boolean contended = overlapped[0];
+        return conflict -> keys.forEach(key -> states.computeIfPresent(key, (k, s) -> {
+            s.inFlight--;
+            return s.record(contended || conflict, lockThreshold) ? s : null;
+        }));
+    }
+
+    int size() {
+        return states.size();
+    }
+
+    @FunctionalInterface
+    public interface Execution {
+        void exit(boolean conflict);
+    }
+
+    private static class KeyState {
+        // compute 내부에서만 변경, shouldLock에서는 volatile 읽기
+        private int inFlight;
+        private double conflictRate;
+        private volatile boolean locking;
+
+        /**
+         * @return 상태를 계속 유지해야 하면 true
+         */
+        private boolean record(boolean conflict, double threshold) {
+            conflictRate = conflictRate * (1 - ALPHA) + (conflict ? ALPHA : 0);
+            // 히스테리시스: 임계값을 넘으면 전환, 절반 아래로 내려가야 복귀
+            if (conflictRate > threshold) {
+                locking = true;
+            } else if (conflictRate < threshold / 2) {
+                locking = false;
+            }
+            return inFlight > 0 || conflictRate >= FORGET_BELOW;
+        }
+    }
+}
@@ -1,10 +1,23 @@
 package com.mall.config.lock;
 
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 public class CustomSpringELParser {
+
+    // MIXED: 컴파일된 표현식 실행이 실패하면 인터프리터로 되돌아감
+    private static final SpelExpressionParser COMPILING_PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, CustomSpringELParser.class.getClassLoader()));
+
+    private static final Pattern SIMPLE_VARIABLE = Pattern.compile("#([A-Za-z_$][A-Za-z0-9_$]*)");
+
     public static Object getDynamicValue(String[] parameterNames, Object[] args, String key) {
         ExpressionParser parser = new SpelExpressionParser();
         StandardEvaluationContext context = new StandardEvaluationContext();
@@ -15,4 +28,61 @@ public class CustomSpringELParser {
 
         return parser.parseExpression(key).getValue(context, Object.class);
     }
+
+    /**
+     * 키 표현식을 한 번만 해석해 재사용 가능한 리졸버로 만든다.
+     * "#skuId"처럼 파라미터 하나를 그대로 쓰는 키는 SpEL 평가 없이 인자를 바로 반환한다.
+     */
+    public static KeyResolver compile(String[] parameterNames, String key) {
+        Matcher matcher = SIMPLE_VARIABLE.matcher(key.strip());
+        if (matcher.matches()) {
+            int index = indexOf(parameterNames, matcher.group(1));
+            if (index >= 0) {
+                return args -> args[index];
+            }
+        }
+        return new CompiledKeyResolver(parameterNames, COMPILING_PARSER.parseRaw(key));
+    }
+
+    private static int indexOf(String[] parameterNames, String name) {
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (parameterNames[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @FunctionalInterface
+    public interface KeyResolver {
+        Object resolve(Object[] args);
+    }
+
+    private static final class CompiledKeyResolver implements KeyResolver {
+
+        private final String[] parameterNames;
+        private final SpelExpression expression;
+        private volatile boolean compileAttempted;
+
+        private CompiledKeyResolver(String[] parameterNames, SpelExpression expression) {
+            this.parameterNames = parameterNames;
+            this.expression = expression;
+        }
+
+        @Override
+        public Object resolve(Object[] args) {
+            StandardEvaluationContext context = new StandardEvaluationContext();
+            for (int i = 0; i < parameterNames.length; i++) {
+                context.setVariable(parameterNames[i], args[i]);
+            }
+
+            Object value = expression.getValue(context);
+            if (!compileAttempted) {
+                // 첫 평가에서 타입 정보가 수집된 뒤 바이트코드로 컴파일 (컴파일할 수 없는 표현식은 인터프리터로 유지)
+                compileAttempted = true;
+                expression.compileExpression();
+            }
+            return value;
+        }
+    }
 }
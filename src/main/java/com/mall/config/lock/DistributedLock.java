@@ -9,8 +9,10 @@ import java.util.concurrent.TimeUnit;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface DistributedLock {
-    String key(); // 락의 이름 (SpEL 지원 예정)
-    long waitTime() default 5L; // 락 획득 대기 시간 (초)
+    String key(); // 락의 이름 (SpEL, 예: "#skuId"). 컬렉션/배열을 반환하면 모든 키를 정렬된 순서로 한 번에 잠금
+    long waitTime() default 5L; // 락 획득 대기 시간 (초, 여러 키가 공유)
     long leaseTime() default 3L; // 락 점유 시간 (초)
     TimeUnit timeUnit() default TimeUnit.SECONDS;
+    LockMode mode() default LockMode.PESSIMISTIC; // OPTIMISTIC/ADAPTIVE는 락 없이 실행 후 충돌 시 재시도
+    int maxRetries() default 3; // 락 없는 실행의 충돌 재시도 횟수
 }
@@ -6,11 +6,18 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 @Aspect
 @Component
@@ -18,36 +25,181 @@ import java.lang.reflect.Method;
 @Slf4j
 public class DistributedLockAspect {
 
-    private static final String LOCK_PREFIX = "LOCK:";
-    private final RedissonClient redissonClient;
+    public static final String LOCK_PREFIX = "LOCK:";
+    private static final long BASE_BACKOFF_MILLIS = 5L;
+
+    private final LockProvider lockProvider;
     private final AopForTransaction aopForTransaction;
+    private final LockMetrics lockMetrics;
+    private final ContentionTracker contentionTracker;
+
+    // 메서드별 어노테이션과 키 리졸버 캐시 (리플렉션/SpEL 파싱은 메서드당 한 번)
+    private final Map<Method, LockMetadata> metadataCache = new ConcurrentHashMap<>();
 
     @Around("@annotation(com.mall.config.lock.DistributedLock)")
     public Object lock(final ProceedingJoinPoint joinPoint) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
+        LockMetadata metadata = metadataCache.computeIfAbsent(signature.getMethod(),
+                method -> LockMetadata.of(method, signature.getParameterNames(), lockMetrics));
+        DistributedLock distributedLock = metadata.distributedLock();
+
+        List<String> keys = toLockKeys(metadata.keyResolver().resolve(joinPoint.getArgs()));
+        if (keys.isEmpty()) {
+            return aopForTransaction.proceed(joinPoint);
+        }
 
-        String key = LOCK_PREFIX + CustomSpringELParser.getDynamicValue(signature.getParameterNames(), joinPoint.getArgs(), distributedLock.key());
-        RLock rLock = redissonClient.getLock(key);
+        LockMode mode = distributedLock.mode();
+        if (mode == LockMode.OPTIMISTIC || (mode == LockMode.ADAPTIVE && !contentionTracker.shouldLock(keys))) {
+            return proceedWithoutLock(joinPoint, metadata, keys);
+        }
 
+        // ADAPTIVE 락 모드도 락 대기 전에 실행 중으로 기록해, 대기열이 있는 동안은 충돌로 측정되게 한다
+        ContentionTracker.Execution execution = mode == LockMode.ADAPTIVE ? contentionTracker.enter(keys) : null;
+        boolean timedOut = false;
         try {
-            boolean available = rLock.tryLock(distributedLock.waitTime(), distributedLock.leaseTime(), distributedLock.timeUnit());
-            if (!available) {
-                log.warn("Failed to acquire lock for key: {}", key);
-                return false;
+            return proceedWithLock(joinPoint, metadata, keys);
+        } catch (LockTimeoutException e) {
+            timedOut = true;
+            return onLockFailure(metadata, keys, e.startedAt);
+        } finally {
+            if (execution != null) {
+                execution.exit(timedOut);
             }
+        }
+    }
 
-            // 트랜잭션 분리를 위해 별도 컴포넌트 호출
-            return aopForTransaction.proceed(joinPoint);
+    private Object proceedWithLock(ProceedingJoinPoint joinPoint, LockMetadata metadata, List<String> keys) throws Throwable {
+        DistributedLock distributedLock = metadata.distributedLock();
+
+        // 모든 키가 하나의 대기 시간 예산을 공유
+        long startedAt = System.nanoTime();
+        LockProvider.LockHandle handle;
+        try {
+            handle = lockProvider.tryLock(keys,
+                    distributedLock.timeUnit().toNanos(distributedLock.waitTime()),
+                    distributedLock.timeUnit().toNanos(distributedLock.leaseTime()));
         } catch (InterruptedException e) {
             throw new RuntimeException("Interrupted while waiting for lock", e);
+        }
+        if (handle == null) {
+            throw new LockTimeoutException(startedAt);
+        }
+
+        long acquiredAt = System.nanoTime();
+        metadata.meters().recordAcquired(acquiredAt - startedAt);
+        lockMetrics.recordWait(keys, acquiredAt - startedAt, true);
+        try {
+            // 트랜잭션 분리를 위해 별도 컴포넌트 호출
+            return aopForTransaction.proceed(joinPoint);
+        } finally {
+            metadata.meters().hold().record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+            if (!handle.unlock()) {
+                // 작업 도중 leaseTime이 만료되어 다른 스레드가 진입했을 수 있음
+                metadata.meters().leaseExpired().increment();
+                log.info("Lock already released: {}", keys);
+            }
+        }
+    }
+
+    /**
+     * 락 없이 실행 (조건부 Atomic UPDATE 등 DB가 정합성을 보장하는 작업)
+     * 동시성 충돌 시 지수 백오프로 maxRetries까지 재시도하고, ADAPTIVE 모드는 충돌 여부를 기록한다.
+     */
+    private Object proceedWithoutLock(ProceedingJoinPoint joinPoint, LockMetadata metadata, List<String> keys) throws Throwable {
+        DistributedLock distributedLock = metadata.distributedLock();
+        ContentionTracker.Execution execution = distributedLock.mode() == LockMode.ADAPTIVE
+                ? contentionTracker.enter(keys)
+                : null;
+        boolean conflict = false;
+        try {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    return aopForTransaction.proceed(joinPoint);
+                } catch (ConcurrencyFailureException e) {
+                    conflict = true;
+                    metadata.meters().optimisticConflict().increment();
+                    if (attempt >= distributedLock.maxRetries()) {
+                        throw e;
+                    }
+                    log.debug("Concurrency conflict for keys: {}, retry: {}", keys, attempt + 1);
+                    backoff(attempt);
+                }
+            }
         } finally {
-            try {
-                rLock.unlock();
-            } catch (IllegalMonitorStateException e) {
-                log.info("Lock already released: {}", key);
+            if (execution != null) {
+                execution.exit(conflict);
             }
         }
     }
+
+    private void backoff(int attempt) {
+        // 지수 백오프 + Jitter (5ms, 10ms, 20ms ... 상한의 절반~상한 사이)
+        long maxMillis = BASE_BACKOFF_MILLIS << Math.min(attempt, 6);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxMillis / 2, maxMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while backing off", e);
+        }
+    }
+
+    /**
+     * 키 표현식 결과를 락 키 목록으로 변환 (컬렉션/배열은 중복 제거 후 정렬)
+     */
+    private List<String> toLockKeys(Object resolved) {
+        if (resolved instanceof Collection<?> collection) {
+            return toSortedKeys(collection.stream());
+        }
+        if (resolved instanceof Object[] array) {
+            return toSortedKeys(Arrays.stream(array));
+        }
+        return List.of(LOCK_PREFIX + resolved);
+    }
+
+    private List<String> toSortedKeys(Stream<?> values) {
+        return values.map(value -> LOCK_PREFIX + value)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * boolean 반환 메서드는 false를 반환하고, 그 외에는 락 없이 진행되지 않도록 예외를 던진다.
+     */
+    private Object onLockFailure(LockMetadata metadata, List<String> keys, long startedAt) {
+        long waitedNanos = System.nanoTime() - startedAt;
+        metadata.meters().recordTimeout(waitedNanos);
+        lockMetrics.recordWait(keys, waitedNanos, false);
+
+        log.warn("Failed to acquire lock for keys: {}", keys);
+        if (metadata.returnsBoolean()) {
+            return false;
+        }
+        throw new IllegalStateException("락 획득에 실패했습니다. Keys: " + keys);
+    }
+
+    /**
+     * 대기 시간 내에 락을 얻지 못함 (스택 트레이스 없이 제어 흐름으로만 사용)
+     */
+    private static final class LockTimeoutException extends RuntimeException {
+        private final long startedAt;
+
+        private LockTimeoutException(long startedAt) {
+            super(null, null, false, false);
+            this.startedAt = startedAt;
+        }
+    }
+
+    private record LockMetadata(DistributedLock distributedLock, CustomSpringELParser.KeyResolver keyResolver,
+                                boolean returnsBoolean, LockMetrics.Meters meters) {
+        static LockMetadata of(Method method, String[] parameterNames, LockMetrics lockMetrics) {
+            DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
+            Class<?> returnType = method.getReturnType();
+            return new LockMetadata(distributedLock,
+                    CustomSpringELParser.compile(parameterNames, distributedLock.key()),
+                    returnType == boolean.class || returnType == Boolean.class,
+                    lockMetrics.meters(method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                            distributedLock.key()));
+        }
+    }
 }
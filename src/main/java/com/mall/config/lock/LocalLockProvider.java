@@ -0,0 +1,140 @@
+package com.mall.config.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JVM 내 Striped 락 (mall.lock.provider=local)
+ * 키를 해시로 고정 개수의 스트라이프에 매핑하므로 키 수와 무관하게 메모리가 일정하다.
+ * Redisson 락과 같이 같은 스레드는 재진입할 수 있고(획득한 횟수만큼 해제해야 풀림), leaseTime이 지나면 자동으로 해제된다.
+ * (만료 후 다른 스레드가 획득하면 이전 소유자의 해제가 무시되도록 점유마다 토큰을 발급하므로 ReentrantLock을 직접 쓰지 않음)
+ * 여러 키는 스트라이프 번호 순서로 잠가 교착을 방지한다. 같은 스트라이프에 매핑된 키들은 한 번만 잠근다.
+ * 중첩 호출에서 다른 키가 이미 잡은 스트라이프에 매핑되어도 재진입으로 처리되어 스스로를 기다리지 않는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "mall.lock", name = "provider", havingValue = "local")
+public class LocalLockProvider implements LockProvider {
+
+    private final LeaseLock[] stripes;
+
+    public LocalLockProvider(@Value("${mall.lock.local.stripes:1024}") int stripeCount) {
+        this.stripes = new LeaseLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new LeaseLock();
+        }
+    }
+
+    @Override
+    public LockHandle tryLock(List<String> keys, long waitNanos, long leaseNanos) throws InterruptedException {
+        int[] indexes = keys.stream()
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        long deadline = System.nanoTime() + waitNanos;
+        Object[] tokens = new Object[indexes.length];
+        int acquired = 0;
+        try {
+            for (; acquired < indexes.length; acquired++) {
+                tokens[acquired] = stripes[indexes[acquired]].tryAcquire(deadline, leaseNanos);
+                if (tokens[acquired] == null) {
+                    return null;
+                }
+            }
+        } finally {
+            if (acquired < indexes.length) {
+                release(indexes, tokens, acquired);
+            }
+        }
+
+        return () -> release(indexes, tokens, indexes.length);
+    }
+
+    private boolean release(int[] indexes, Object[] tokens, int count) {
+        boolean allHeld = true;
+        for (int i = count - 1; i >= 0; i--) {
+            allHeld &= stripes[indexes[i]].release(tokens[i]);
+        }
+        return allHeld;
+    }
+
+    private int stripeIndex(String key) {
+        int h = key.hashCode();
+        return ((h ^ (h >>> 16)) & Integer.MAX_VALUE) % stripes.length;
+    }
+
+    private static final class LeaseLock {
+
+        private final ReentrantLock mutex = new ReentrantLock();
+        private final Condition released = mutex.newCondition();
+        private Object owner;
+        private Thread ownerThread;
+        private int holds;
+        private boolean leased;
+        private long expiresAt;
+
+        /**
+         * @return 소유 토큰 (재진입 시 같은 토큰), 마감 시각까지 획득하지 못하면 null
+         */
+        private Object tryAcquire(long deadline, long leaseNanos) throws InterruptedException {
+            mutex.lockInterruptibly();
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+                    if (owner == null || isExpired(now)) {
+                        owner = new Object();
+                        ownerThread = Thread.currentThread();
+                        holds = 1;
+                        leased = leaseNanos > 0;
+                        expiresAt = now + leaseNanos;
+                        return owner;
+                    }
+                    if (ownerThread == Thread.currentThread()) {
+                        // 재진입: Redisson과 같이 점유 시간을 새 leaseTime으로 갱신
+                        holds++;
+                        leased = leaseNanos > 0;
+                        expiresAt = now + leaseNanos;
+                        return owner;
+                    }
+                    long remaining = deadline - now;
+                    if (remaining <= 0) {
+                        return null;
+                    }
+                    released.awaitNanos(leased ? Math.min(remaining, expiresAt - now) : remaining);
+                }
+            } finally {
+                mutex.unlock();
+            }
+        }
+
+        private boolean release(Object token) {
+            mutex.lock();
+            try {
+                if (owner != token) {
+                    return false;
+                }
+                boolean held = !isExpired(System.nanoTime());
+                if (held && --holds > 0) {
+                    return true;
+                }
+                owner = null;
+                ownerThread = null;
+                holds = 0;
+                released.signal();
+                return held;
+            } finally {
+                mutex.unlock();
+            }
+        }
+
+        private boolean isExpired(long now) {
+            return leased && now - expiresAt >= 0;
+        }
+    }
+}
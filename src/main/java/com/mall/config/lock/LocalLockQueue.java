@@ -0,0 +1,64 @@
+package com.mall.config.lock;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노드 내 락 대기열 (Single-flight)
+ * 같은 락 키를 기다리는 스레드 중 한 스레드만 Redis 락을 경쟁하고, 나머지는 로컬 공정 락에서 FIFO 순서로 대기한다.
+ * 대기자가 없어진 키는 즉시 제거되므로 키 수만큼 메모리가 쌓이지 않는다.
+ */
+@Component
+public class LocalLockQueue {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @return 대기 시간 안에 차례가 오면 Permit, 아니면 null
+     */
+    public Permit tryAcquire(String key, long timeout, TimeUnit unit) throws InterruptedException {
+        Entry entry = entries.compute(key, (k, existing) -> {
+            Entry e = existing != null ? existing : new Entry();
+            e.users++;
+            return e;
+        });
+
+        boolean acquired = false;
+        try {
+            acquired = entry.lock.tryLock(timeout, unit);
+        } finally {
+            if (!acquired) {
+                leave(key);
+            }
+        }
+        if (!acquired) {
+            return null;
+        }
+
+        return () -> {
+            entry.lock.unlock();
+            leave(key);
+        };
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void leave(String key) {
+        entries.computeIfPresent(key, (k, e) -> --e.users == 0 ? null : e);
+    }
+
+    @FunctionalInterface
+    public interface Permit {
+        void release();
+    }
+
+    private static class Entry {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int users; // compute 내부에서만 변경
+    }
+}
@@ -0,0 +1,27 @@
+package com.mall.config.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 락 대기가 몰리는 키 Top-N (GET /actuator/lockhotkeys)
+ * 조회 전용이다. 집계는 {@link LockMetrics}가 주기적으로 초기화한다.
+ */
+@Component
+@Endpoint(id = "lockhotkeys")
+@RequiredArgsConstructor
+public class LockHotKeysEndpoint {
+
+    private static final int TOP_N = 20;
+
+    private final LockMetrics lockMetrics;
+
+    @ReadOperation
+    public List<LockMetrics.HotKey> hotKeys() {
+        return lockMetrics.topKeys(TOP_N);
+    }
+}
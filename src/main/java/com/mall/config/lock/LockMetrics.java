@@ -0,0 +1,118 @@
+package com.mall.config.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 분산 락 경합 지표
+ * - lock.wait / lock.hold          : 대기/점유 시간 (Histogram)
+ * - lock.acquired / lock.timeout   : 획득 성공/대기 시간 초과 횟수
+ * - lock.lease.expired             : 작업이 끝나기 전에 leaseTime이 만료된 횟수
+ * - lock.optimistic.conflict       : 락 없는 실행(OPTIMISTIC/ADAPTIVE)의 동시성 충돌 횟수
+ * 태그는 메서드(예: "InventoryServiceImpl.decrease")와 키 표현식(예: "#skuId")으로 카디널리티를 제한하고,
+ * 키별 경합은 별도의 Hot Key 집계(/actuator/lockhotkeys)로 확인한다.
+ * Hot Key 집계는 mall.lock.hot-keys.window-ms 주기로 초기화되어 최근 구간의 경합만 보여준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LockMetrics {
+
+    // 키 수가 무한히 늘어나지 않도록 집계 대상 키 수 제한 (초과분은 초기화 전까지 무시)
+    static final int MAX_TRACKED_KEYS = 10_000;
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, KeyStats> keyStats = new ConcurrentHashMap<>();
+
+    /**
+     * @param method 어노테이션이 붙은 메서드 (같은 키 표현식을 쓰는 메서드끼리 지표가 섞이지 않도록 구분)
+     */
+    public Meters meters(String method, String keyPattern) {
+        return new Meters(
+                Timer.builder("lock.wait")
+                        .description("Time spent waiting for a distributed lock")
+                        .tag("method", method).tag("key", keyPattern)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Timer.builder("lock.hold")
+                        .description("Time a distributed lock is held")
+                        .tag("method", method).tag("key", keyPattern)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Counter.builder("lock.acquired").tag("method", method).tag("key", keyPattern).register(meterRegistry),
+                Counter.builder("lock.timeout").tag("method", method).tag("key", keyPattern).register(meterRegistry),
+                Counter.builder("lock.lease.expired").tag("method", method).tag("key", keyPattern).register(meterRegistry),
+                Counter.builder("lock.optimistic.conflict").tag("method", method).tag("key", keyPattern).register(meterRegistry));
+    }
+
+    public void recordWait(List<String> keys, long waitNanos, boolean acquired) {
+        for (String key : keys) {
+            KeyStats stats = keyStats.get(key);
+            if (stats == null) {
+                if (keyStats.size() >= MAX_TRACKED_KEYS) {
+                    continue;
+                }
+                stats = keyStats.computeIfAbsent(key, k -> new KeyStats());
+            }
+            stats.attempts.increment();
+            stats.waitNanos.add(waitNanos);
+            if (!acquired) {
+                stats.timeouts.increment();
+            }
+        }
+    }
+
+    /**
+     * 누적 대기 시간이 긴 순서로 상위 키 조회
+     */
+    public List<HotKey> topKeys(int limit) {
+        return keyStats.entrySet().stream()
+                .map(entry -> entry.getValue().toHotKey(entry.getKey()))
+                .sorted(Comparator.comparingDouble(HotKey::totalWaitMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${mall.lock.hot-keys.window-ms:300000}")
+    public void resetKeys() {
+        keyStats.clear();
+    }
+
+    public record Meters(Timer wait, Timer hold, Counter acquired, Counter timeout, Counter leaseExpired,
+                         Counter optimisticConflict) {
+
+        public void recordAcquired(long waitNanos) {
+            wait.record(waitNanos, TimeUnit.NANOSECONDS);
+            acquired.increment();
+        }
+
+        public void recordTimeout(long waitNanos) {
+            wait.record(waitNanos, TimeUnit.NANOSECONDS);
+            timeout.increment();
+        }
+    }
+
+    public record HotKey(String key, long attempts, long timeouts, double totalWaitMs, double avgWaitMs) {
+    }
+
+    private static class KeyStats {
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+
+        private HotKey toHotKey(String key) {
+            long count = attempts.sum();
+            double totalWaitMs = waitNanos.sum() / 1_000_000.0;
+            return new HotKey(key, count, timeouts.sum(), totalWaitMs, count == 0 ? 0 : totalWaitMs / count);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.mall.config.lock;
+
+public enum LockMode {
+    /**
+     * 분산 락 획득 후 실행 (기본값)
+     */
+    PESSIMISTIC,
+    /**
+     * 락 없이 실행하고 동시성 충돌(ConcurrencyFailureException) 시 재시도
+     * 조건부 Atomic UPDATE처럼 락 없이도 정합성이 보장되는 작업에만 사용한다.
+     */
+    OPTIMISTIC,
+    /**
+     * 키별 충돌률을 측정해 임계값을 넘으면 PESSIMISTIC, 충분히 낮아지면 다시 OPTIMISTIC으로 실행
+     */
+    ADAPTIVE
+}
@@ -0,0 +1,28 @@
+package com.mall.config.lock;
+
+import java.util.List;
+
+/**
+ * 분산 락 백엔드 SPI (mall.lock.provider로 선택)
+ * - redisson: Redis 락 (기본값, 다중 노드)
+ * - local   : JVM 내 Striped 락 (단일 노드/테스트, Redis 왕복 없음)
+ */
+public interface LockProvider {
+
+    /**
+     * 모든 키를 한 번에 잠금 (All-or-nothing)
+     * @param keys       중복 없이 정렬된 락 키
+     * @param waitNanos  모든 키가 공유하는 대기 시간
+     * @param leaseNanos 자동 해제까지의 점유 시간 (0 이하면 만료 없음)
+     * @return 대기 시간 안에 획득하지 못하면 null
+     */
+    LockHandle tryLock(List<String> keys, long waitNanos, long leaseNanos) throws InterruptedException;
+
+    @FunctionalInterface
+    interface LockHandle {
+        /**
+         * @return 이미 leaseTime이 만료되어 해제된 상태였다면 false
+         */
+        boolean unlock();
+    }
+}
@@ -0,0 +1,71 @@
+package com.mall.config.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(prefix = "mall.lock", name = "provider", havingValue = "redisson", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedissonLockProvider implements LockProvider {
+
+    private final RedissonClient redissonClient;
+    private final LocalLockQueue localLockQueue;
+
+    @Override
+    public LockHandle tryLock(List<String> keys, long waitNanos, long leaseNanos) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        List<LocalLockQueue.Permit> permits = new ArrayList<>(keys.size());
+        boolean acquired = false;
+        try {
+            // 1. 노드 내 대기열: 같은 키는 한 스레드만 Redis 락을 경쟁 (정렬된 순서로 획득해 교착 방지)
+            for (String key : keys) {
+                LocalLockQueue.Permit permit = localLockQueue.tryAcquire(key, remainingNanos(waitNanos, startedAt), TimeUnit.NANOSECONDS);
+                if (permit == null) {
+                    return null;
+                }
+                permits.add(permit);
+            }
+
+            // 2. 남은 대기 시간 안에서 Redis 락 획득 (여러 키는 Multi-lock으로 한 번에)
+            RLock rLock = keys.size() == 1
+                    ? redissonClient.getLock(keys.get(0))
+                    : redissonClient.getMultiLock(keys.stream().map(redissonClient::getLock).toArray(RLock[]::new));
+            acquired = rLock.tryLock(remainingNanos(waitNanos, startedAt), leaseNanos > 0 ? leaseNanos : -1, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                return null;
+            }
+
+            return () -> {
+                try {
+                    rLock.unlock();
+                    return true;
+                } catch (IllegalMonitorStateException e) {
+                    return false;
+                } finally {
+                    release(permits);
+                }
+            };
+        } finally {
+            if (!acquired) {
+                release(permits);
+            }
+        }
+    }
+
+    private void release(List<LocalLockQueue.Permit> permits) {
+        for (int i = permits.size() - 1; i >= 0; i--) {
+            permits.get(i).release();
+        }
+    }
+
+    private long remainingNanos(long waitNanos, long startedAt) {
+        return Math.max(0L, waitNanos - (System.nanoTime() - startedAt));
+    }
+}
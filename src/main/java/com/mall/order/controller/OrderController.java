@@ -0,0 +1,36 @@
+package com.mall.order.controller;
+
+import com.mall.order.dto.OrderTicket;
+import com.mall.order.service.OrderIntake;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/orders")
+@RequiredArgsConstructor
+public class OrderController {
+
+    private final OrderIntake orderIntake;
+
+    /**
+     * 장바구니로 주문 생성. 비동기 접수 모드에서는 202와 티켓을 반환한다.
+     */
+    @PostMapping
+    public ResponseEntity<OrderTicket> createOrder(@RequestParam Long userId) {
+        OrderTicket ticket = orderIntake.submit(userId);
+        HttpStatus status = ticket.status() == OrderTicket.Status.PENDING ? HttpStatus.ACCEPTED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(ticket);
+    }
+
+    /**
+     * 비동기 접수 티켓 상태 조회 (클라이언트 폴링)
+     */
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<OrderTicket> getTicket(@PathVariable String ticketId) {
+        return orderIntake.findTicket(ticketId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
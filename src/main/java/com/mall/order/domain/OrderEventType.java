@@ -0,0 +1,7 @@
+package com.mall.order.domain;
+
+public enum OrderEventType {
+    ORDER_CREATED,
+    ORDER_PAID,
+    ORDER_CANCELLED
+}
@@ -0,0 +1,42 @@
+package com.mall.order.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스: 주문 변경과 같은 트랜잭션에서 기록하고, Relay가 Kafka로 발행한 뒤 sentAt을 채운다.
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_outbox_event_unsent", columnList = "sent_at, id"),
+        @Index(name = "idx_outbox_event_aggregate", columnList = "aggregate_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq_gen")
+    @SequenceGenerator(name = "outbox_event_seq_gen", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private OrderEventType eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,9 @@
+package com.mall.order.dto;
+
+/**
+ * 주문 ID 구간 (대상이 없으면 둘 다 null)
+ */
+public record IdRange(
+    Long minId,
+    Long maxId
+) {}
@@ -0,0 +1,30 @@
+package com.mall.order.dto;
+
+/**
+ * 주문 접수 결과
+ * @param ticketId 비동기 접수 티켓 ID (동기 접수는 null)
+ * @param orderId  생성된 주문 ID (COMPLETED일 때만)
+ * @param message  실패 사유 (FAILED일 때만)
+ */
+public record OrderTicket(
+    String ticketId,
+    Status status,
+    Long orderId,
+    String message
+) {
+    public enum Status {
+        PENDING, COMPLETED, FAILED
+    }
+
+    public static OrderTicket pending(String ticketId) {
+        return new OrderTicket(ticketId, Status.PENDING, null, null);
+    }
+
+    public static OrderTicket completed(String ticketId, Long orderId) {
+        return new OrderTicket(ticketId, Status.COMPLETED, orderId, null);
+    }
+
+    public static OrderTicket failed(String ticketId, String message) {
+        return new OrderTicket(ticketId, Status.FAILED, null, message);
+    }
+}
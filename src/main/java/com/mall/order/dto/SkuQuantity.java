@@ -0,0 +1,9 @@
+package com.mall.order.dto;
+
+/**
+ * 여러 주문에 걸친 SKU별 합계 수량
+ */
+public record SkuQuantity(
+    Long skuId,
+    Long quantity
+) {}
@@ -0,0 +1,22 @@
+package com.mall.order.outbox;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mall.order.domain.OrderEventType;
+import com.mall.order.domain.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 이벤트 페이로드 (아웃박스에 JSON으로 저장, Kafka 메시지 값)
+ * 만료 주문 일괄 취소 이벤트에는 userId/totalAmount가 없다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderEvent(
+    OrderEventType type,
+    Long orderId,
+    Long userId,
+    OrderStatus status,
+    BigDecimal totalAmount,
+    LocalDateTime occurredAt
+) {}
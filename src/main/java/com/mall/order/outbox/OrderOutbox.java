@@ -0,0 +1,53 @@
+package com.mall.order.outbox;
+
+import com.mall.order.domain.Order;
+import com.mall.order.domain.OrderEventType;
+import com.mall.order.domain.OrderStatus;
+import com.mall.order.domain.OutboxEvent;
+import com.mall.order.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 주문 이벤트를 아웃박스 테이블에 기록 (호출자 트랜잭션에 참여, 트랜잭션이 없으면 실패)
+ * 브로커 발행은 {@link OutboxRelay}가 커밋 이후 별도로 처리하므로 주문 처리 지연이 브로커 상태에 묶이지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JsonMapper jsonMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Order order, OrderEventType type) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.save(toOutboxEvent(new OrderEvent(type, order.getId(), order.getUserId(),
+                order.getStatus(), order.getTotalAmount(), now), now));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(Collection<Long> orderIds, OrderEventType type, OrderStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = orderIds.stream()
+                .map(orderId -> toOutboxEvent(new OrderEvent(type, orderId, null, status, null, now), now))
+                .toList();
+        outboxEventRepository.saveAll(events);
+    }
+
+    private OutboxEvent toOutboxEvent(OrderEvent event, LocalDateTime now) {
+        return OutboxEvent.builder()
+                .aggregateId(event.orderId())
+                .eventType(event.type())
+                .payload(jsonMapper.writeValueAsString(event))
+                .createdAt(now)
+                .build();
+    }
+}
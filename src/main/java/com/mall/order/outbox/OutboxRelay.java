@@ -0,0 +1,140 @@
+package com.mall.order.outbox;
+
+import com.mall.order.domain.OutboxEvent;
+import com.mall.order.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 아웃박스 Relay: 미발행 이벤트를 배치로 행 락을 잡아 Kafka로 발행하고 발행 완료로 표시
+ * - 메시지 키는 주문 ID (같은 주문의 이벤트는 같은 파티션에 적재)
+ * - 한 배치에는 주문별 가장 오래된 미발행 이벤트만 담기므로, 여러 노드가 동시에 발행하거나 실패한 배치를 재발행해도
+ *   같은 주문의 이벤트는 기록된 순서대로 발행된다.
+ * - 발행 완료 이벤트는 보관 기간(mall.outbox.retention-hours)이 지나면 삭제한다.
+ * - 배치 안의 어느 하나라도 발행에 실패하면 전체를 롤백해 다음 주기에 재발행한다. (At-least-once,
+ *   소비자는 eventId 헤더로 중복을 걸러야 한다)
+ * 지표
+ * - outbox.published / outbox.publish.failed : 발행 성공/실패 이벤트 수
+ * - outbox.publish.batch                     : 배치 발행 시간 (조회 ~ 브로커 응답)
+ */
+@Component
+@ConditionalOnProperty(prefix = "mall.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+
+    public static final String EVENT_ID_HEADER = "eventId";
+    public static final String EVENT_TYPE_HEADER = "eventType";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String topic;
+    private final int batchSize;
+    private final long sendTimeoutMillis;
+    private final long retentionHours;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaTemplate<String, String> kafkaTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${mall.outbox.topic:order-events}") String topic,
+                       @Value("${mall.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${mall.outbox.relay.send-timeout-ms:10000}") long sendTimeoutMillis,
+                       @Value("${mall.outbox.retention-hours:72}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.retentionHours = retentionHours;
+        this.publishedCounter = Counter.builder("outbox.published")
+                .description("Outbox events published to Kafka")
+                .tag("topic", topic)
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.publish.failed")
+                .description("Outbox events whose batch failed to publish")
+                .tag("topic", topic)
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.publish.batch")
+                .description("Time to publish one outbox batch")
+                .tag("topic", topic)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return 발행한 이벤트 수 (batchSize와 같으면 남은 이벤트가 더 있을 수 있음)
+     */
+    @Transactional
+    public int relayBatch() {
+        long startedAt = System.nanoTime();
+        List<OutboxEvent> events = outboxEventRepository.lockUnsent(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            ProducerRecord<String, String> record = new ProducerRecord<>(topic,
+                    String.valueOf(event.getAggregateId()), event.getPayload());
+            record.headers()
+                    .add(EVENT_ID_HEADER, String.valueOf(event.getId()).getBytes(StandardCharsets.UTF_8))
+                    .add(EVENT_TYPE_HEADER, event.getEventType().name().getBytes(StandardCharsets.UTF_8));
+            futures.add(kafkaTemplate.send(record));
+        }
+        kafkaTemplate.flush();
+        awaitAll(futures, events.size());
+
+        outboxEventRepository.markSent(events.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+        publishedCounter.increment(events.size());
+        batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return events.size();
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트를 batchSize개 삭제 (긴 트랜잭션을 피하기 위해 청크 단위)
+     * @return 삭제한 이벤트 수
+     */
+    @Transactional
+    public int purgeSent() {
+        return outboxEventRepository.deleteSentBefore(LocalDateTime.now().minusHours(retentionHours), batchSize);
+    }
+
+    private void awaitAll(List<CompletableFuture<SendResult<String, String>>> futures, int eventCount) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            failedCounter.increment(eventCount);
+            throw new IllegalStateException("아웃박스 이벤트 발행에 실패했습니다. Events: " + eventCount, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failedCounter.increment(eventCount);
+            throw new IllegalStateException("아웃박스 이벤트 발행이 중단되었습니다.", e);
+        }
+    }
+}
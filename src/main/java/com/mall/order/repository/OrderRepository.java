@@ -2,17 +2,67 @@ package com.mall.order.repository;
 
 import com.mall.order.domain.Order;
 import com.mall.order.domain.OrderStatus;
+import com.mall.order.dto.IdRange;
+import com.mall.order.dto.SkuQuantity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
-    List<Order> findByStatusAndOrderDateBefore(OrderStatus status, LocalDateTime dateTime);
 
     @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id = :id")
     Optional<Order> findWithItemsById(@Param("id") Long id);
+
+    /**
+     * 상태 변경 전 주문 행 락 (만료 일괄 취소와 결제/취소가 같은 주문을 동시에 바꾸지 않도록)
+     * 주문 항목은 락 이후 지연 로딩한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 해당 상태 주문의 ID 구간 ((status, id) 인덱스 양 끝만 읽음)
+     */
+    @Query("SELECT new com.mall.order.dto.IdRange(MIN(o.id), MAX(o.id)) FROM Order o WHERE o.status = :status")
+    IdRange findIdRangeByStatus(@Param("status") OrderStatus status);
+
+    /**
+     * Keyset 페이지 조회: ID 구간 (afterId, maxId] 안의 주문을 ID 순으로 limit개
+     * (status, id) 인덱스를 구간으로 스캔하므로 노드별로 자기 구간만 읽는다.
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status AND o.id > :afterId AND o.id <= :maxId " +
+           "AND o.orderDate < :before ORDER BY o.id")
+    List<Long> findIdsByStatusAndOrderDateBefore(@Param("status") OrderStatus status,
+                                                 @Param("before") LocalDateTime before,
+                                                 @Param("afterId") Long afterId,
+                                                 @Param("maxId") Long maxId,
+                                                 Limit limit);
+
+    /**
+     * 결제 대기 중인 주문만 행 락 (다른 트랜잭션이 잡고 있는 주문은 건너뜀)
+     */
+    @Query(value = "SELECT id FROM orders WHERE id IN (:ids) AND status = 'PENDING_PAYMENT' ORDER BY id FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> lockPendingPaymentIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :ids AND o.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") OrderStatus status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :to WHERE o.id IN :ids AND o.status = :from")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("from") OrderStatus from, @Param("to") OrderStatus to);
+
+    @Query("SELECT new com.mall.order.dto.SkuQuantity(oi.skuId, SUM(oi.quantity)) FROM OrderItem oi " +
+           "WHERE oi.order.id IN :orderIds GROUP BY oi.skuId ORDER BY oi.skuId")
+    List<SkuQuantity> sumQuantitiesBySku(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -0,0 +1,64 @@
+package com.mall.order.repository;
+
+import com.mall.order.dto.OrderTicket;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 비동기 주문 접수 티켓 상태 (order:ticket:{ticketId} Hash, 클라이언트가 폴링)
+ */
+@Repository
+@ConditionalOnProperty(prefix = "mall.order.intake", name = "mode", havingValue = "async")
+public class OrderTicketRepository {
+
+    private static final String KEY_PREFIX = "order:ticket:";
+
+    private final RedissonClient redissonClient;
+    private final Duration ttl;
+
+    public OrderTicketRepository(RedissonClient redissonClient,
+                                 @Value("${mall.order.intake.ticket-ttl-minutes:60}") long ttlMinutes) {
+        this.redissonClient = redissonClient;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    public void save(OrderTicket ticket) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", ticket.status().name());
+        if (ticket.orderId() != null) {
+            fields.put("orderId", String.valueOf(ticket.orderId()));
+        }
+        if (ticket.message() != null) {
+            fields.put("message", ticket.message());
+        }
+
+        RMap<String, String> map = map(ticket.ticketId());
+        map.putAll(fields);
+        map.expire(ttl);
+    }
+
+    public Optional<OrderTicket> find(String ticketId) {
+        Map<String, String> fields = map(ticketId).readAllMap();
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        String orderId = fields.get("orderId");
+        return Optional.of(new OrderTicket(ticketId,
+                OrderTicket.Status.valueOf(fields.get("status")),
+                orderId != null ? Long.valueOf(orderId) : null,
+                fields.get("message")));
+    }
+
+    private RMap<String, String> map(String ticketId) {
+        return redissonClient.getMap(KEY_PREFIX + ticketId, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,78 @@
+package com.mall.order.repository;
+
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 결제 대기 주문의 만료 시각 큐 (Redis Sorted Set, score = 만료 시각 epoch millis)
+ * - 주문 생성 시 등록, 결제 완료/취소 시 삭제
+ * - {@link #claimDue}는 만료된 항목을 원자적으로 꺼내므로 여러 노드가 폴링해도 한 노드만 처리한다.
+ * 꺼낸 뒤 처리 전에 노드가 죽으면 항목이 유실되므로, DB 기준 주기 점검이 안전망으로 남아 있다.
+ */
+@Repository
+public class OrderTimeoutQueue {
+
+    private static final String QUEUE_KEY = "order:payment-timeouts";
+
+    // KEYS[1]: 큐 / ARGV: 현재 시각, 최대 개수
+    private static final String CLAIM_SCRIPT =
+            "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "if #ids > 0 then redis.call('ZREM', KEYS[1], unpack(ids)) end " +
+            "return ids";
+
+    private final RedissonClient redissonClient;
+    private final Duration paymentTimeout;
+
+    public OrderTimeoutQueue(RedissonClient redissonClient,
+                             @Value("${mall.order.payment-timeout-minutes:10}") long paymentTimeoutMinutes) {
+        this.redissonClient = redissonClient;
+        this.paymentTimeout = Duration.ofMinutes(paymentTimeoutMinutes);
+    }
+
+    public Duration getPaymentTimeout() {
+        return paymentTimeout;
+    }
+
+    /**
+     * 현재 시각 + 결제 제한 시간에 만료되도록 등록
+     */
+    public void schedule(Long orderId) {
+        schedule(orderId, Instant.now().plus(paymentTimeout));
+    }
+
+    public void schedule(Long orderId, Instant deadline) {
+        queue().add(deadline.toEpochMilli(), orderId);
+    }
+
+    public void remove(Long orderId) {
+        queue().remove(orderId);
+    }
+
+    public void removeAll(Collection<Long> orderIds) {
+        queue().removeAll(orderIds);
+    }
+
+    /**
+     * 만료 시각이 지난 주문 ID를 최대 limit개 꺼냄 (꺼낸 항목은 큐에서 삭제)
+     */
+    public List<Long> claimDue(Instant now, int limit) {
+        List<Object> ids = redissonClient.getScript(LongCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, CLAIM_SCRIPT,
+                RScript.ReturnType.LIST, List.of(QUEUE_KEY), now.toEpochMilli(), limit);
+        return ids.stream()
+                .map(id -> Long.valueOf(String.valueOf(id)))
+                .toList();
+    }
+
+    private RScoredSortedSet<Long> queue() {
+        return redissonClient.getScoredSortedSet(QUEUE_KEY, LongCodec.INSTANCE);
+    }
+}
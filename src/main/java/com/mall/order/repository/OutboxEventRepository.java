@@ -0,0 +1,40 @@
+package com.mall.order.repository;
+
+import com.mall.order.domain.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 주문별 가장 오래된 미발행 이벤트만 ID 순으로 행 락 (다른 Relay 노드가 잡고 있는 행은 건너뜀)
+     * 앞선 이벤트가 발행되기 전에는 같은 주문의 다음 이벤트를 어느 노드도 가져가지 않으므로 주문 내 발행 순서가 유지된다.
+     */
+    @Query(value = "SELECT * FROM outbox_event e WHERE e.sent_at IS NULL " +
+                   "AND NOT EXISTS (SELECT 1 FROM outbox_event p " +
+                   "WHERE p.aggregate_id = e.aggregate_id AND p.sent_at IS NULL AND p.id < e.id) " +
+                   "ORDER BY e.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEvent> lockUnsent(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.sentAt = :sentAt WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    long countBySentAtIsNull();
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트를 ID 순으로 limit개 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM outbox_event WHERE id IN " +
+                   "(SELECT id FROM outbox_event WHERE sent_at < :before ORDER BY id LIMIT :limit)",
+            nativeQuery = true)
+    int deleteSentBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
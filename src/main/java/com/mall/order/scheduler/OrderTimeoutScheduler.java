@@ -1,14 +1,18 @@
 package com.mall.order.scheduler;
 
-import com.mall.order.domain.Order;
+import com.mall.config.cluster.ClusterMembership;
 import com.mall.order.domain.OrderStatus;
+import com.mall.order.dto.IdRange;
 import com.mall.order.repository.OrderRepository;
+import com.mall.order.repository.OrderTimeoutQueue;
 import com.mall.order.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -17,28 +21,72 @@ import java.util.List;
 @Slf4j
 public class OrderTimeoutScheduler {
 
+    private static final int CLAIM_BATCH_SIZE = 100;
+    private static final int SWEEP_CHUNK_SIZE = 500;
+    private static final long RETRY_DELAY_SECONDS = 5;
+
     private final OrderRepository orderRepository;
     private final OrderService orderService;
+    private final OrderTimeoutQueue orderTimeoutQueue;
+    private final ClusterMembership clusterMembership;
+
+    /**
+     * 만료 큐에서 결제 제한 시간이 지난 주문을 꺼내 일괄 취소 (만료 후 폴링 주기 이내에 처리)
+     * 취소에 실패한 주문은 잠시 뒤 다시 시도하도록 재등록한다.
+     */
+    @Scheduled(fixedDelayString = "${mall.order.timeout.poll-interval-ms:500}")
+    public void cancelDueOrders() {
+        List<Long> orderIds;
+        do {
+            orderIds = orderTimeoutQueue.claimDue(Instant.now(), CLAIM_BATCH_SIZE);
+            try {
+                orderService.cancelExpiredOrders(orderIds);
+            } catch (Exception e) {
+                log.error("Failed to cancel timeout orders: {}. Will retry.", orderIds, e);
+                Instant retryAt = Instant.now().plusSeconds(RETRY_DELAY_SECONDS);
+                orderIds.forEach(orderId -> orderTimeoutQueue.schedule(orderId, retryAt));
+            }
+        } while (orderIds.size() == CLAIM_BATCH_SIZE);
+    }
 
     /**
-     * 결제 대기 중인 주문 중 10분이 경과한 주문을 자동으로 취소
+     * 안전망: 만료 큐에서 유실된 주문(등록 실패, 처리 중 노드 장애, 장애 후 대량 적체 등)을
+     * DB에서 ID 순 Keyset 청크로 찾아 청크 단위로 일괄 취소
+     * 결제 대기 주문의 ID 구간을 살아 있는 노드 수로 나눠 각 노드는 자기 구간만 인덱스 범위로 스캔하므로,
+     * 노드가 늘수록 노드별 DB 부하는 줄어든다. (노드마다 구간을 조회한 시점이 달라 경계가 조금 겹치거나 비어도
+     * 겹친 주문은 행 락으로 한 번만 취소되고, 빠진 주문은 다음 주기에 처리된다)
      */
-    @Scheduled(fixedDelay = 60000) // 1분마다 실행
+    @Scheduled(fixedDelayString = "${mall.order.timeout.sweep-interval-ms:600000}")
     public void cancelTimeoutOrders() {
-        LocalDateTime timeoutThreshold = LocalDateTime.now().minusMinutes(10);
-        
-        List<Order> timeoutOrders = orderRepository.findByStatusAndOrderDateBefore(
-                OrderStatus.PENDING_PAYMENT, timeoutThreshold);
-
-        if (!timeoutOrders.isEmpty()) {
-            log.info("Found {} timeout orders to cancel", timeoutOrders.size());
-            for (Order order : timeoutOrders) {
-                try {
-                    orderService.cancelOrder(order.getId());
-                } catch (Exception e) {
-                    log.error("Failed to cancel timeout order: {}", order.getId(), e);
-                }
+        LocalDateTime timeoutThreshold = LocalDateTime.now().minus(orderTimeoutQueue.getPaymentTimeout());
+        ClusterMembership.Partition partition = clusterMembership.partition();
+        IdRange range = orderRepository.findIdRangeByStatus(OrderStatus.PENDING_PAYMENT);
+        if (range.minId() == null) {
+            return;
+        }
+
+        long span = range.maxId() - range.minId() + 1;
+        long afterId = range.minId() + span * partition.index() / partition.count() - 1;
+        long maxId = range.minId() + span * (partition.index() + 1) / partition.count() - 1;
+        int cancelled = 0;
+        List<Long> chunk;
+        do {
+            chunk = orderRepository.findIdsByStatusAndOrderDateBefore(
+                    OrderStatus.PENDING_PAYMENT, timeoutThreshold, afterId, maxId, Limit.of(SWEEP_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
             }
+            afterId = chunk.get(chunk.size() - 1);
+            try {
+                cancelled += orderService.cancelExpiredOrders(chunk);
+            } catch (Exception e) {
+                log.error("Failed to cancel timeout orders. Chunk: {}..{}", chunk.get(0), afterId, e);
+            }
+        } while (chunk.size() == SWEEP_CHUNK_SIZE);
+
+        if (cancelled > 0) {
+            log.info("Cancelled {} timeout orders missed by the timeout queue. Partition: {}/{}",
+                    cancelled, partition.index(), partition.count());
         }
     }
 }
@@ -0,0 +1,53 @@
+package com.mall.order.scheduler;
+
+import com.mall.order.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "mall.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelayScheduler {
+
+    private final OutboxRelay outboxRelay;
+
+    /**
+     * 미발행 이벤트가 남아 있는 동안 배치 단위로 연속 발행
+     * 실패한 배치는 롤백되어 다음 주기에 다시 발행된다.
+     */
+    @Scheduled(fixedDelayString = "${mall.outbox.relay.poll-interval-ms:200}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                published = outboxRelay.relayBatch();
+            } while (published >= outboxRelay.getBatchSize());
+        } catch (Exception e) {
+            log.error("Failed to relay outbox events. Will retry.", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트를 청크 단위로 삭제 (아웃박스 테이블 무한 증가 방지)
+     */
+    @Scheduled(fixedDelayString = "${mall.outbox.purge-interval-ms:600000}")
+    public void purge() {
+        try {
+            int purged = 0;
+            int deleted;
+            do {
+                deleted = outboxRelay.purgeSent();
+                purged += deleted;
+            } while (deleted >= outboxRelay.getBatchSize());
+            if (purged > 0) {
+                log.info("Purged {} sent outbox events", purged);
+            }
+        } catch (Exception e) {
+            log.error("Failed to purge sent outbox events. Will retry.", e);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.mall.order.service;
+
+import com.mall.cart.dto.CartResponse;
+import com.mall.cart.service.CartService;
+import com.mall.config.lock.DistributedLockAspect;
+import com.mall.config.lock.LockProvider;
+import com.mall.order.dto.OrderTicket;
+import com.mall.order.repository.OrderTicketRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 주문 접수 (mall.order.intake.mode=async)
+ * 요청 스레드는 장바구니만 검증하고 티켓을 발급한 뒤 대기열에 넣는다.
+ * 대기열은 장바구니의 대표 SKU(가장 작은 SKU ID) 기준으로 파티션되어, 같은 Hot SKU 주문은 같은 워커가 배치로 꺼낸다.
+ * 워커는 한 배치를 동시에 처리하고 모두 끝난 뒤 다음 배치를 꺼내므로,
+ * group-commit 재고 모드에서는 배치 안의 같은 SKU 차감이 한 번의 UPDATE로 합쳐진다.
+ * 주문 생성은 DB 커넥션을 두 개(주문 + 재고 선점) 사용하므로, 전체 파티션의 동시 처리 수를 max-concurrency로 제한한다.
+ * 한 배치에 같은 사용자의 요청이 여럿이면 첫 요청만 처리한다. (하나의 장바구니로 주문이 중복 생성되지 않도록)
+ * 장바구니가 바뀌어 다른 파티션(또는 다른 노드)으로 들어온 요청은 사용자 락으로 막고, 락을 잡지 못한 요청은 실패 처리한다.
+ * 대기열은 프로세스 내부에 있으므로 종료 시 처리되지 않은 요청의 티켓은 PENDING으로 남았다가 만료된다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "mall.order.intake", name = "mode", havingValue = "async")
+@Slf4j
+public class AsyncOrderIntake implements OrderIntake {
+
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+    private static final String DUPLICATE_REQUEST_MESSAGE = "같은 사용자의 주문 요청이 이미 처리 중입니다.";
+    private static final String USER_LOCK_PREFIX = DistributedLockAspect.LOCK_PREFIX + "ORDER_USER:";
+    /** 주문 생성 한 건의 최대 소요 시간보다 넉넉하게 (노드가 죽어도 락이 남지 않도록) */
+    private static final long USER_LOCK_LEASE_SECONDS = 30;
+
+    private final OrderService orderService;
+    private final CartService cartService;
+    private final OrderTicketRepository orderTicketRepository;
+    private final LockProvider lockProvider;
+    private final int maxBatchSize;
+    private final Semaphore permits;
+
+    private final List<BlockingQueue<Request>> partitions;
+    private final List<Thread> workers;
+    private final ExecutorService orderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile boolean running = true;
+
+    public AsyncOrderIntake(OrderService orderService,
+                            CartService cartService,
+                            OrderTicketRepository orderTicketRepository,
+                            LockProvider lockProvider,
+                            @Value("${mall.order.intake.partitions:4}") int partitionCount,
+                            @Value("${mall.order.intake.queue-capacity:10000}") int queueCapacity,
+                            @Value("${mall.order.intake.max-batch-size:32}") int maxBatchSize,
+                            @Value("${mall.order.intake.max-concurrency:4}") int maxConcurrency) {
+        this.orderService = orderService;
+        this.cartService = cartService;
+        this.orderTicketRepository = orderTicketRepository;
+        this.lockProvider = lockProvider;
+        this.maxBatchSize = maxBatchSize;
+        this.permits = new Semaphore(maxConcurrency);
+
+        this.partitions = new ArrayList<>(partitionCount);
+        this.workers = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            BlockingQueue<Request> queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity / partitionCount));
+            partitions.add(queue);
+            workers.add(Thread.ofPlatform().name("order-intake-" + i).daemon().start(() -> drain(queue)));
+        }
+    }
+
+    @Override
+    public OrderTicket submit(Long userId) {
+        List<CartResponse> cartItems = cartService.getCartItems(userId, null);
+        if (cartItems.isEmpty()) {
+            throw new IllegalStateException("장바구니가 비어 있습니다.");
+        }
+
+        long routingSkuId = cartItems.stream().mapToLong(CartResponse::skuId).min().orElseThrow();
+        BlockingQueue<Request> queue = partitions.get(Math.floorMod(Long.hashCode(routingSkuId), partitions.size()));
+
+        OrderTicket ticket = OrderTicket.pending(UUID.randomUUID().toString());
+        orderTicketRepository.save(ticket);
+        if (!queue.offer(new Request(ticket.ticketId(), userId))) {
+            orderTicketRepository.save(OrderTicket.failed(ticket.ticketId(), "주문 접수 대기열이 가득 찼습니다."));
+            throw new IllegalStateException("주문 접수 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return ticket;
+    }
+
+    @Override
+    public Optional<OrderTicket> findTicket(String ticketId) {
+        return orderTicketRepository.find(ticketId);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        orderExecutor.close();
+    }
+
+    private void drain(BlockingQueue<Request> queue) {
+        List<Request> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                Request first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<Request> batch) throws InterruptedException {
+        Map<Long, Request> firstByUser = new LinkedHashMap<>();
+        for (Request request : batch) {
+            if (firstByUser.putIfAbsent(request.userId(), request) != null) {
+                orderTicketRepository.save(OrderTicket.failed(request.ticketId(), DUPLICATE_REQUEST_MESSAGE));
+            }
+        }
+
+        List<Future<?>> futures = new ArrayList<>(firstByUser.size());
+        for (Request request : firstByUser.values()) {
+            futures.add(orderExecutor.submit(() -> {
+                permits.acquire();
+                try {
+                    createOrder(request);
+                } finally {
+                    permits.release();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.error("Unexpected order intake failure", e.getCause());
+            }
+        }
+        log.info("Processed order intake batch. Size: {}", batch.size());
+    }
+
+    private void createOrder(Request request) throws InterruptedException {
+        LockProvider.LockHandle userLock = lockProvider.tryLock(List.of(USER_LOCK_PREFIX + request.userId()),
+                0, TimeUnit.SECONDS.toNanos(USER_LOCK_LEASE_SECONDS));
+        if (userLock == null) {
+            orderTicketRepository.save(OrderTicket.failed(request.ticketId(), DUPLICATE_REQUEST_MESSAGE));
+            return;
+        }
+
+        OrderTicket result;
+        try {
+            result = OrderTicket.completed(request.ticketId(), orderService.createOrder(request.userId()));
+        } catch (Exception e) {
+            log.warn("Async order failed. Ticket: {}, User: {}", request.ticketId(), request.userId(), e);
+            result = OrderTicket.failed(request.ticketId(), e.getMessage());
+        } finally {
+            if (!userLock.unlock()) {
+                log.warn("User order lock expired before release. User: {}", request.userId());
+            }
+        }
+        orderTicketRepository.save(result);
+    }
+
+    private record Request(String ticketId, Long userId) {}
+}
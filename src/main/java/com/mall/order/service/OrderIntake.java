@@ -0,0 +1,16 @@
+package com.mall.order.service;
+
+import com.mall.order.dto.OrderTicket;
+
+import java.util.Optional;
+
+/**
+ * 주문 접수 (mall.order.intake.mode로 선택)
+ * - sync : 요청 스레드에서 주문 생성까지 완료 (기본값)
+ * - async: 검증 후 대기열에 넣고 티켓을 즉시 반환, 워커가 배치로 처리
+ */
+public interface OrderIntake {
+    OrderTicket submit(Long userId);
+
+    Optional<OrderTicket> findTicket(String ticketId);
+}
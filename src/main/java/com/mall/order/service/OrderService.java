@@ -2,92 +2,248 @@ package com.mall.order.service;
 
 import com.mall.cart.dto.CartResponse;
 import com.mall.cart.service.CartService;
+import com.mall.common.Money;
 import com.mall.order.domain.Order;
+import com.mall.order.domain.OrderEventType;
 import com.mall.order.domain.OrderItem;
 import com.mall.order.domain.OrderStatus;
+import com.mall.order.dto.SkuQuantity;
+import com.mall.order.outbox.OrderOutbox;
 import com.mall.order.repository.OrderRepository;
+import com.mall.order.repository.OrderTimeoutQueue;
 import com.mall.product.service.InventoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.math.BigDecimal;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OrderService {
 
+    private static final Duration SKIPPED_RETRY_DELAY = Duration.ofSeconds(1);
+
     private final OrderRepository orderRepository;
     private final CartService cartService;
     private final InventoryService inventoryService;
+    private final OrderTimeoutQueue orderTimeoutQueue;
+    private final OrderOutbox orderOutbox;
 
     /**
      * 주문 생성 (재고 선점 포함)
      */
     @Transactional
     public Long createOrder(Long userId) {
-        // 1. 장바구니 아이템 조회
+        // 1. 미반영 장바구니 변경을 DB에 반영한 뒤 장바구니 아이템 조회
+        cartService.flush(userId);
         List<CartResponse> cartItems = cartService.getCartItems(userId, null);
         if (cartItems.isEmpty()) {
             throw new IllegalStateException("장바구니가 비어 있습니다.");
         }
 
         // 2. 주문 총액 계산
-        BigDecimal totalAmount = cartItems.stream()
-                .map(CartResponse::subTotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        Money totalAmount = Money.ZERO;
+        for (CartResponse item : cartItems) {
+            totalAmount = totalAmount.plus(item.subTotal());
+        }
 
         // 3. 주문 엔티티 생성
         Order order = Order.builder()
                 .userId(userId)
                 .status(OrderStatus.PENDING_PAYMENT)
-                .totalAmount(totalAmount)
+                .totalAmount(totalAmount.toBigDecimal())
                 .build();
 
-        // 4. 주문 항목 추가 및 재고 차감 (선점)
+        // 4. 주문 항목 추가
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
         for (CartResponse item : cartItems) {
             OrderItem orderItem = OrderItem.builder()
                     .skuId(item.skuId())
                     .skuName(item.productName() + " (" + item.skuCode() + ")")
-                    .price(item.price())
+                    .price(item.price().toBigDecimal())
                     .quantity(item.quantity())
                     .build();
             order.addOrderItem(orderItem);
-
-            // Phase 3 재고 선점 호출
-            inventoryService.decreaseStock(item.skuId(), item.quantity());
+            quantities.merge(item.skuId(), item.quantity(), Integer::sum);
         }
 
-        // 5. 주문 저장 및 장바구니 비우기
+        // 5. 주문 저장 후 재고 선점 (선점 원장은 주문 ID 단위로 기록, 전체 SKU All-or-nothing)
         Order savedOrder = orderRepository.save(order);
+        inventoryService.reserve(savedOrder.getId(), quantities);
+        releaseStockOnRollback(savedOrder.getId(), quantities);
+        orderOutbox.append(savedOrder, OrderEventType.ORDER_CREATED);
+
+        // 결제 제한 시간 만료 시 자동 취소되도록 등록 (커밋된 주문만)
+        afterCommit(() -> orderTimeoutQueue.schedule(savedOrder.getId()));
+
+        // 6. 장바구니 비우기
         cartService.clearCart(userId);
 
         log.info("Order created successfully. OrderId: {}, User: {}", savedOrder.getId(), userId);
         return savedOrder.getId();
     }
 
+    /**
+     * 결제 완료 (재고 선점 확정)
+     */
+    @Transactional
+    public void completePayment(Long orderId) {
+        Order order = orderRepository.findByIdForUpdate(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid Order ID"));
+
+        if (order.getStatus() != OrderStatus.PENDING_PAYMENT) {
+            throw new IllegalStateException("결제 대기 중인 주문이 아닙니다. 상태: " + order.getStatus());
+        }
+
+        order.updateStatus(OrderStatus.PAID);
+        inventoryService.confirm(orderId, toQuantities(order));
+        orderOutbox.append(order, OrderEventType.ORDER_PAID);
+        afterCommit(() -> orderTimeoutQueue.remove(orderId));
+
+        log.info("Order paid and stock reservation confirmed. OrderId: {}", orderId);
+    }
+
     /**
      * 주문 취소 (재고 복구 포함)
      */
     @Transactional
     public void cancelOrder(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid Order ID"));
 
         if (order.getStatus() == OrderStatus.CANCELLED) {
             return;
         }
 
+        OrderStatus previousStatus = order.getStatus();
         order.updateStatus(OrderStatus.CANCELLED);
 
-        // 재고 복구
-        for (OrderItem item : order.getOrderItems()) {
-            inventoryService.increaseStock(item.getSkuId(), item.getQuantity());
+        // 재고 선점 해제 (즉시 차감 방식에서는 재고 복구). 결제 확정된 주문은 확정 차감분을 복구
+        if (previousStatus == OrderStatus.PAID) {
+            inventoryService.releaseConfirmed(orderId, toQuantities(order));
+        } else {
+            inventoryService.release(orderId, toQuantities(order));
         }
+        orderOutbox.append(order, OrderEventType.ORDER_CANCELLED);
+        afterCommit(() -> orderTimeoutQueue.remove(orderId));
 
         log.info("Order cancelled and stock restored. OrderId: {}", orderId);
     }
+
+    /**
+     * 결제 제한 시간이 지난 주문 일괄 취소 (한 청크를 하나의 트랜잭션으로 처리)
+     * 결제 대기 상태인 주문만 행 락을 잡아 상태를 한 번에 변경하고,
+     * 주문 항목을 SKU별로 합산해 SKU당 한 번씩 재고를 복구한다. 그 사이 결제된 주문은 그대로 둔다.
+     * 결제/취소도 같은 행 락을 잡으므로 처리 중인 주문은 건너뛰고, 이 청크가 잠근 주문의 결제는 커밋 후 상태를 다시 확인한다.
+     * 건너뛴 주문은 만료 큐에서 이미 꺼냈으므로, 결제가 롤백되어도 폴링 주기 안에 취소되도록 만료 큐에 재등록한다.
+     * @return 취소한 주문 수
+     */
+    @Transactional
+    public int cancelExpiredOrders(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> pendingIds = orderRepository.lockPendingPaymentIds(orderIds);
+        requeueSkipped(orderIds, pendingIds);
+        if (pendingIds.isEmpty()) {
+            return 0;
+        }
+
+        orderRepository.updateStatus(pendingIds, OrderStatus.PENDING_PAYMENT, OrderStatus.CANCELLED);
+
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (SkuQuantity skuQuantity : orderRepository.sumQuantitiesBySku(pendingIds)) {
+            quantities.put(skuQuantity.skuId(), Math.toIntExact(skuQuantity.quantity()));
+        }
+        inventoryService.releaseAll(pendingIds, quantities);
+        orderOutbox.appendAll(pendingIds, OrderEventType.ORDER_CANCELLED, OrderStatus.CANCELLED);
+        afterCommit(() -> orderTimeoutQueue.removeAll(pendingIds));
+
+        log.info("Expired orders cancelled. Orders: {}, SKUs restored: {}", pendingIds.size(), quantities.size());
+        return pendingIds.size();
+    }
+
+    /**
+     * 행 락 때문에 건너뛴 주문 중 아직 결제 대기 상태인 주문을 잠시 뒤 다시 처리하도록 재등록 (커밋 이후)
+     * 그 사이 결제가 커밋되어 큐에 남은 항목은 다음 처리 때 상태 확인으로 걸러진다.
+     */
+    private void requeueSkipped(Collection<Long> orderIds, List<Long> pendingIds) {
+        Set<Long> skipped = new HashSet<>(orderIds);
+        pendingIds.forEach(skipped::remove);
+        if (skipped.isEmpty()) {
+            return;
+        }
+        List<Long> stillPending = orderRepository.findIdsByIdInAndStatus(skipped, OrderStatus.PENDING_PAYMENT);
+        if (stillPending.isEmpty()) {
+            return;
+        }
+        Instant retryAt = Instant.now().plus(SKIPPED_RETRY_DELAY);
+        afterCommit(() -> stillPending.forEach(orderId -> orderTimeoutQueue.schedule(orderId, retryAt)));
+    }
+
+    private Map<Long, Integer> toQuantities(Order order) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItem item : order.getOrderItems()) {
+            quantities.merge(item.getSkuId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    /**
+     * 만료 큐 갱신은 커밋 이후에 실행. 실패해도 주문은 이미 커밋되었으므로 로그만 남긴다. (주기 점검이 보정)
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runQuietly(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runQuietly(action);
+            }
+        });
+    }
+
+    private void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.warn("Failed to update order timeout queue", e);
+        }
+    }
+
+    /**
+     * 재고 선점은 별도 트랜잭션으로 커밋되므로, 이후 주문 트랜잭션이 롤백되면 선점을 해제한다.
+     */
+    private void releaseStockOnRollback(Long orderId, Map<Long, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    inventoryService.release(orderId, quantities);
+                } catch (Exception e) {
+                    log.error("Failed to release stock after order rollback. OrderId: {}, SKUs: {}", orderId, quantities, e);
+                }
+            }
+        });
+    }
 }
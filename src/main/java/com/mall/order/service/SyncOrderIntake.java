@@ -0,0 +1,26 @@
+package com.mall.order.service;
+
+import com.mall.order.dto.OrderTicket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(prefix = "mall.order.intake", name = "mode", havingValue = "sync", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SyncOrderIntake implements OrderIntake {
+
+    private final OrderService orderService;
+
+    @Override
+    public OrderTicket submit(Long userId) {
+        return OrderTicket.completed(null, orderService.createOrder(userId));
+    }
+
+    @Override
+    public Optional<OrderTicket> findTicket(String ticketId) {
+        return Optional.empty();
+    }
+}
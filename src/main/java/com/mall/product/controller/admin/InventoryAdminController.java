@@ -0,0 +1,25 @@
+package com.mall.product.controller.admin;
+
+import com.mall.product.service.InventoryBucketService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/api/inventories")
+@ConditionalOnProperty(prefix = "mall.inventory", name = "mode", havingValue = "sharded")
+@RequiredArgsConstructor
+public class InventoryAdminController {
+
+    private final InventoryBucketService inventoryBucketService;
+
+    /**
+     * Hot SKU 재고 분할 (count=0이면 분할 해제)
+     */
+    @PostMapping("/{skuId}/buckets")
+    public ResponseEntity<Void> shard(@PathVariable Long skuId, @RequestParam int count) {
+        inventoryBucketService.shard(skuId, count);
+        return ResponseEntity.ok().build();
+    }
+}
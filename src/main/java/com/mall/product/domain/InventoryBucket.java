@@ -0,0 +1,36 @@
+package com.mall.product.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Hot SKU 재고 분할 버킷
+ * 하나의 SKU 재고를 N개 행으로 나눠 구매 요청의 행 락 경합을 분산한다.
+ * SKU의 전체 재고 = Inventory.stockQuantity + 모든 버킷의 stockQuantity 합
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"sku_id", "bucket_no"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class InventoryBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sku_id", nullable = false)
+    private Sku sku;
+
+    @Column(name = "bucket_no", nullable = false)
+    private Integer bucketNo;
+
+    @Column(nullable = false)
+    private Integer stockQuantity;
+
+    public void updateStock(int quantity) {
+        this.stockQuantity = quantity;
+    }
+}
@@ -18,7 +18,8 @@ import java.util.Map;
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq_gen")
+    @SequenceGenerator(name = "product_seq_gen", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -16,7 +16,8 @@ import java.util.Map;
 public class Sku {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sku_seq_gen")
+    @SequenceGenerator(name = "sku_seq_gen", sequenceName = "sku_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
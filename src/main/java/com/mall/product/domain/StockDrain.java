@@ -0,0 +1,26 @@
+package com.mall.product.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis 재고 증감분 드레인 반영 기록 (mall.inventory.mode=redis)
+ * 증감분 UPDATE와 같은 트랜잭션에 기록되므로, DB 반영 후 Redis 완료 처리 전에 실패해도 같은 드레인은 한 번만 반영된다.
+ * 카운터 적재 시에는 마지막 반영 ID로 DB 재고에 이미 포함된 증감분을 구분한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class StockDrain {
+
+    // Redis에서 발급한 드레인 ID (단조 증가)
+    @Id
+    private Long id;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
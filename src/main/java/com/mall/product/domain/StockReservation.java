@@ -0,0 +1,43 @@
+package com.mall.product.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 단위 재고 선점 기록 (mall.inventory.mode=ledger)
+ * 만료 전까지 판매 가능 재고에서 제외되고, 만료되면 별도 복구 쓰기 없이 자동으로 재고에 돌아간다.
+ * 판매 가능 재고 = Inventory.stockQuantity - 만료되지 않은 선점 수량 합
+ */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_stock_reservation_sku_expires", columnList = "sku_id, expires_at"),
+        @Index(name = "idx_stock_reservation_order", columnList = "order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sku_id", nullable = false)
+    private Long skuId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean isLive(LocalDateTime now) {
+        return expiresAt.isAfter(now);
+    }
+}
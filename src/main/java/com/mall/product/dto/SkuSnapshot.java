@@ -0,0 +1,24 @@
+package com.mall.product.dto;
+
+import com.mall.common.Money;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 장바구니/주문 화면 렌더링에 필요한 SKU 가격·표시 정보
+ * @param price 판매가 (기본가 + 추가 금액)
+ */
+public record SkuSnapshot(
+    Long skuId,
+    String productName,
+    String skuCode,
+    Map<String, Object> attributes,
+    Money price
+) {
+    // Querydsl 프로젝션용 (DB의 BigDecimal 금액을 조회 시점에 한 번만 변환)
+    public SkuSnapshot(Long skuId, String productName, String skuCode, Map<String, Object> attributes,
+                       BigDecimal basePrice, BigDecimal additionalPrice) {
+        this(skuId, productName, skuCode, attributes, Money.of(basePrice).plus(Money.of(additionalPrice)));
+    }
+}
@@ -0,0 +1,10 @@
+package com.mall.product.dto;
+
+/**
+ * @param appliedDrainId 같은 조회 시점에 DB 재고에 반영되어 있던 마지막 드레인 ID
+ */
+public record StockLevel(
+    Long skuId,
+    int stockQuantity,
+    long appliedDrainId
+) {}
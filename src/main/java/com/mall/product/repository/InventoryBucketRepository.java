@@ -0,0 +1,40 @@
+package com.mall.product.repository;
+
+import com.mall.product.domain.InventoryBucket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface InventoryBucketRepository extends JpaRepository<InventoryBucket, Long> {
+
+    int countBySkuId(Long skuId);
+
+    @Query("SELECT DISTINCT b.sku.id FROM InventoryBucket b")
+    List<Long> findShardedSkuIds();
+
+    /**
+     * 버킷 재배치/일괄 차감용: SKU의 모든 버킷을 행 락과 함께 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM InventoryBucket b WHERE b.sku.id = :skuId ORDER BY b.bucketNo")
+    List<InventoryBucket> findAllBySkuIdForUpdate(@Param("skuId") Long skuId);
+
+    /**
+     * DB Atomic Update: 해당 버킷 재고가 충분한 경우에만 차감
+     * @return 업데이트된 행의 수 (1이면 성공, 0이면 버킷 재고 부족)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InventoryBucket b SET b.stockQuantity = b.stockQuantity - :qty " +
+           "WHERE b.sku.id = :skuId AND b.bucketNo = :bucketNo AND b.stockQuantity >= :qty")
+    int decreaseStock(@Param("skuId") Long skuId, @Param("bucketNo") int bucketNo, @Param("qty") int qty);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE InventoryBucket b SET b.stockQuantity = b.stockQuantity + :qty " +
+           "WHERE b.sku.id = :skuId AND b.bucketNo = :bucketNo")
+    int increaseStock(@Param("skuId") Long skuId, @Param("bucketNo") int bucketNo, @Param("qty") int qty);
+}
@@ -1,17 +1,38 @@
 package com.mall.product.repository;
 
 import com.mall.product.domain.Inventory;
+import com.mall.product.dto.StockLevel;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface InventoryRepository extends JpaRepository<Inventory, Long> {
+public interface InventoryRepository extends JpaRepository<Inventory, Long>, InventoryRepositoryCustom {
 
     Optional<Inventory> findBySkuId(Long skuId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Inventory i WHERE i.sku.id = :skuId")
+    Optional<Inventory> findBySkuIdForUpdate(@Param("skuId") Long skuId);
+
+    /**
+     * Redis 재고 카운터 적재용 경량 조회 (엔티티 로딩 없이 SKU ID와 수량만 조회)
+     * 마지막 드레인 ID를 같은 쿼리에서 읽어, 재고 수량과 같은 시점의 반영 상태를 얻는다.
+     */
+    @Query("SELECT new com.mall.product.dto.StockLevel(i.sku.id, i.stockQuantity, " +
+           "(SELECT COALESCE(MAX(d.id), 0L) FROM StockDrain d)) FROM Inventory i ORDER BY i.id")
+    Slice<StockLevel> findStockLevels(Pageable pageable);
+
+    @Query("SELECT new com.mall.product.dto.StockLevel(i.sku.id, i.stockQuantity, " +
+           "(SELECT COALESCE(MAX(d.id), 0L) FROM StockDrain d)) FROM Inventory i WHERE i.sku.id = :skuId")
+    Optional<StockLevel> findStockLevel(@Param("skuId") Long skuId);
+
     /**
      * DB Atomic Update: 재고가 충분한 경우에만 차감
      * @return 업데이트된 행의 수 (1이면 성공, 0이면 재고 부족)
@@ -28,4 +49,12 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     @Query("UPDATE Inventory i SET i.stockQuantity = i.stockQuantity + :qty " +
            "WHERE i.sku.id = :skuId")
     int increaseStock(@Param("skuId") Long skuId, @Param("qty") int qty);
+
+    /**
+     * DB Atomic Update: Write-behind 순증감분 반영 (음수면 차감, 양수면 증가)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Inventory i SET i.stockQuantity = i.stockQuantity + :delta " +
+           "WHERE i.sku.id = :skuId")
+    int applyStockDelta(@Param("skuId") Long skuId, @Param("delta") int delta);
 }
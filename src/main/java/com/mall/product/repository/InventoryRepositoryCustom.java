@@ -0,0 +1,11 @@
+package com.mall.product.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface InventoryRepositoryCustom {
+    /**
+     * SKU별 판매 가능 재고 (Inventory + 분할 버킷 합계 - 만료되지 않은 선점 수량)
+     */
+    Map<Long, Integer> findTotalStocks(Collection<Long> skuIds);
+}
@@ -0,0 +1,62 @@
+package com.mall.product.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.mall.product.domain.QInventory.inventory;
+import static com.mall.product.domain.QInventoryBucket.inventoryBucket;
+import static com.mall.product.domain.QStockReservation.stockReservation;
+
+@RequiredArgsConstructor
+public class InventoryRepositoryImpl implements InventoryRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Map<Long, Integer> findTotalStocks(Collection<Long> skuIds) {
+        Map<Long, Integer> stocks = new HashMap<>();
+        if (skuIds.isEmpty()) {
+            return stocks;
+        }
+
+        for (Tuple row : queryFactory
+                .select(inventory.sku.id, inventory.stockQuantity)
+                .from(inventory)
+                .where(inventory.sku.id.in(skuIds))
+                .fetch()) {
+            stocks.merge(row.get(0, Long.class), row.get(1, Integer.class), Integer::sum);
+        }
+
+        // SUM 결과 타입은 DB/Hibernate 버전에 따라 다르므로 Number로 받는다.
+        for (Tuple row : queryFactory
+                .select(inventoryBucket.sku.id, inventoryBucket.stockQuantity.sum())
+                .from(inventoryBucket)
+                .where(inventoryBucket.sku.id.in(skuIds))
+                .groupBy(inventoryBucket.sku.id)
+                .fetch()) {
+            Number bucketTotal = row.get(1, Number.class);
+            stocks.merge(row.get(0, Long.class), bucketTotal != null ? bucketTotal.intValue() : 0, Integer::sum);
+        }
+
+        // 만료되지 않은 선점 수량은 판매 가능 재고에서 제외 (ledger 모드 외에는 선점 기록이 없음)
+        for (Tuple row : queryFactory
+                .select(stockReservation.skuId, stockReservation.quantity.sum())
+                .from(stockReservation)
+                .where(stockReservation.skuId.in(skuIds),
+                        stockReservation.expiresAt.after(LocalDateTime.now()))
+                .groupBy(stockReservation.skuId)
+                .fetch()) {
+            Number reserved = row.get(1, Number.class);
+            stocks.computeIfPresent(row.get(0, Long.class),
+                    (skuId, stock) -> stock - (reserved != null ? reserved.intValue() : 0));
+        }
+
+        return stocks;
+    }
+}
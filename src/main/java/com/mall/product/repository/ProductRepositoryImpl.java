@@ -14,17 +14,18 @@ import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.mall.product.domain.QProduct.product;
 import static com.mall.product.domain.QCategory.category;
 import static com.mall.product.domain.QSku.sku;
-import static com.mall.product.domain.QInventory.inventory;
 
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final InventoryRepository inventoryRepository;
 
     @Override
     public Page<ProductResponse> searchProducts(ProductSearchRequest request, Pageable pageable) {
@@ -54,32 +55,32 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
                 )
                 .fetchOne();
 
-        List<ProductResponse> content = queryFactory
+        List<Product> products = queryFactory
                 .selectFrom(product)
                 .leftJoin(product.skus, sku).fetchJoin()
                 .where(product.id.in(productIds))
-                .fetch()
-                .stream()
+                .fetch();
+
+        // 페이지 내 모든 SKU 재고를 한 번에 조회 (분할 버킷 포함 합계)
+        Map<Long, Integer> stocks = inventoryRepository.findTotalStocks(products.stream()
+                .flatMap(p -> p.getSkus().stream())
+                .map(Sku::getId)
+                .toList());
+
+        List<ProductResponse> content = products.stream()
                 .map(p -> new ProductResponse(
                         p.getId(),
                         p.getName(),
                         p.getBasePrice(),
                         p.getAttributes(),
                         p.getSkus().stream()
-                                .map(s -> {
-                                    Integer stock = queryFactory
-                                            .select(inventory.stockQuantity)
-                                            .from(inventory)
-                                            .where(inventory.sku.id.eq(s.getId()))
-                                            .fetchOne();
-                                    return new SkuResponse(
-                                            s.getId(),
-                                            s.getSkuCode(),
-                                            s.getAttributes(),
-                                            s.getAdditionalPrice(),
-                                            stock != null ? stock : 0
-                                    );
-                                })
+                                .map(s -> new SkuResponse(
+                                        s.getId(),
+                                        s.getSkuCode(),
+                                        s.getAttributes(),
+                                        s.getAdditionalPrice(),
+                                        stocks.getOrDefault(s.getId(), 0)
+                                ))
                                 .collect(Collectors.toList())
                 ))
                 .collect(Collectors.toList());
@@ -0,0 +1,255 @@
+package com.mall.product.repository;
+
+import com.mall.product.dto.StockLevel;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis 재고 카운터 저장소 (mall.inventory.mode=redis)
+ * - STOCK:{skuId}        : 판매 가능 재고 (Source of Truth)
+ * - STOCK_DELTA          : DB에 아직 반영되지 않은 SKU별 순증감분 (Hash)
+ * - STOCK_DELTA:FLUSHING : Flusher가 DB 반영 중인 증감분 (실패 시 다음 주기에 재시도), _id 필드에 드레인 ID
+ * - STOCK_DELTA:SEQ      : 드레인 ID 발급
+ * - STOCK_DELTA:APPLIED  : 마지막으로 완료 처리된 드레인 ID (완료 직후 짧은 시간만 유지)
+ * 카운터 적재 시 DB 재고와 함께 읽은 마지막 반영 드레인 ID로, 아직 DB에 없는 증감분만 더한다.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "mall.inventory", name = "mode", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisStockRepository {
+
+    public static final long NOT_LOADED = -2L;
+    public static final long INSUFFICIENT = -1L;
+    public static final long STALE_SNAPSHOT = -3L;
+
+    private static final String STOCK_PREFIX = "STOCK:";
+    private static final String DELTA_KEY = "STOCK_DELTA";
+    private static final String FLUSHING_KEY = "STOCK_DELTA:FLUSHING";
+    private static final String DRAIN_SEQ_KEY = "STOCK_DELTA:SEQ";
+    private static final String APPLIED_KEY = "STOCK_DELTA:APPLIED";
+    private static final String DRAIN_ID_FIELD = "_id";
+    // DB 조회와 적재 스크립트 사이에 드레인이 완료되는 경우만 걸러내면 되므로 짧게 유지
+    private static final long APPLIED_TTL_MILLIS = 10_000L;
+
+    // 재고 확인과 차감을 하나의 스크립트로 실행 (락 없이 원자성 보장)
+    private static final String DECREASE_SCRIPT =
+            "local stock = redis.call('GET', KEYS[1]) " +
+            "if not stock then return -2 end " +
+            "if tonumber(stock) < tonumber(ARGV[1]) then return -1 end " +
+            "redis.call('HINCRBY', KEYS[2], ARGV[2], -tonumber(ARGV[1])) " +
+            "return redis.call('DECRBY', KEYS[1], ARGV[1])";
+
+    // 모든 SKU 재고를 먼저 확인한 뒤 한꺼번에 차감 (All-or-nothing)
+    // KEYS: STOCK:{skuId}..., STOCK_DELTA / ARGV: 수량..., skuId...
+    private static final String DECREASE_ALL_SCRIPT =
+            "local n = #KEYS - 1 " +
+            "for i = 1, n do " +
+            "  local stock = redis.call('GET', KEYS[i]) " +
+            "  if not stock then return {-2, i} end " +
+            "  if tonumber(stock) < tonumber(ARGV[i]) then return {-1, i} end " +
+            "end " +
+            "for i = 1, n do " +
+            "  redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], -tonumber(ARGV[i])) " +
+            "  redis.call('DECRBY', KEYS[i], ARGV[i]) " +
+            "end " +
+            "return {0, 0}";
+
+    private static final String INCREASE_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end " +
+            "redis.call('HINCRBY', KEYS[2], ARGV[2], tonumber(ARGV[1])) " +
+            "return redis.call('INCRBY', KEYS[1], ARGV[1])";
+
+    // 적재 공통: DB 조회 이후 완료된 드레인이 있으면 -3 (DB 재고를 다시 읽어야 함)
+    // 미반영 증감분 = STOCK_DELTA + (DB에 아직 반영되지 않은 드레인이면) STOCK_DELTA:FLUSHING
+    // KEYS: STOCK_DELTA, STOCK_DELTA:FLUSHING, STOCK_DELTA:APPLIED, STOCK:{skuId}... / ARGV[1]: DB의 마지막 반영 드레인 ID
+    private static final String PENDING_FUNCTION =
+            "if tonumber(ARGV[1]) < tonumber(redis.call('GET', KEYS[3]) or '0') then return -3 end " +
+            "local withFlushing = tonumber(redis.call('HGET', KEYS[2], '_id') or '0') > tonumber(ARGV[1]) " +
+            "local function pending(skuId) " +
+            "  local delta = tonumber(redis.call('HGET', KEYS[1], skuId) or '0') " +
+            "  if withFlushing then delta = delta + tonumber(redis.call('HGET', KEYS[2], skuId) or '0') end " +
+            "  return delta " +
+            "end ";
+
+    // 카운터가 없는 SKU만 DB 재고 + 미반영 증감분으로 적재 / ARGV: 반영 드레인 ID, (skuId, DB 재고)...
+    private static final String LOAD_SCRIPT = PENDING_FUNCTION +
+            "local loaded = 0 " +
+            "for i = 4, #KEYS do " +
+            "  local j = (i - 3) * 2 " +
+            "  if redis.call('EXISTS', KEYS[i]) == 0 then " +
+            "    redis.call('SET', KEYS[i], tonumber(ARGV[j + 1]) + pending(ARGV[j])) " +
+            "    loaded = loaded + 1 " +
+            "  end " +
+            "end " +
+            "return loaded";
+
+    // DB 재고 + 미반영 증감분으로 카운터를 강제 재설정 / ARGV: 반영 드레인 ID, skuId, DB 재고
+    private static final String RELOAD_SCRIPT = PENDING_FUNCTION +
+            "local stock = tonumber(ARGV[3]) + pending(ARGV[2]) " +
+            "redis.call('SET', KEYS[4], stock) " +
+            "return stock";
+
+    // 이전 플러시가 실패해 남아 있는 증감분이 있으면 같은 드레인 ID로 다시 반환
+    // 드레인 ID는 DB의 마지막 반영 ID보다 크게 발급 (Redis 데이터가 유실되어 시퀀스가 초기화된 경우 대비)
+    private static final String DRAIN_SCRIPT =
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+            "  if redis.call('EXISTS', KEYS[1]) == 0 then return {} end " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "end " +
+            "if not redis.call('HGET', KEYS[2], '_id') then " +
+            "  local id = redis.call('INCR', KEYS[3]) " +
+            "  if id <= tonumber(ARGV[1]) then " +
+            "    id = tonumber(ARGV[1]) + 1 " +
+            "    redis.call('SET', KEYS[3], id) " +
+            "  end " +
+            "  redis.call('HSET', KEYS[2], '_id', id) " +
+            "end " +
+            "return redis.call('HGETALL', KEYS[2])";
+
+    // 완료된 드레인을 지우고 완료 ID를 기록 (같은 드레인에 대해 여러 번 호출되어도 안전)
+    private static final String COMPLETE_DRAIN_SCRIPT =
+            "if redis.call('HGET', KEYS[1], '_id') == ARGV[1] then redis.call('DEL', KEYS[1]) end " +
+            "if tonumber(ARGV[1]) > tonumber(redis.call('GET', KEYS[2]) or '0') then " +
+            "  redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2]) " +
+            "end " +
+            "return 1";
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * @return 차감 후 잔여 재고, 재고 부족 시 {@link #INSUFFICIENT}, 카운터 미적재 시 {@link #NOT_LOADED}
+     */
+    public long decrease(Long skuId, int quantity) {
+        Long result = script().eval(RScript.Mode.READ_WRITE, DECREASE_SCRIPT, RScript.ReturnType.LONG,
+                List.of(stockKey(skuId), DELTA_KEY), quantity, skuId);
+        return result;
+    }
+
+    /**
+     * @return 성공 시 status 0, 실패 시 실패 사유({@link #INSUFFICIENT}, {@link #NOT_LOADED})와 해당 SKU ID
+     */
+    public DecreaseAllResult decreaseAll(Map<Long, Integer> quantities) {
+        List<Long> skuIds = new ArrayList<>(quantities.keySet());
+        List<Object> keys = new ArrayList<>(skuIds.size() + 1);
+        List<Object> args = new ArrayList<>(skuIds.size() * 2);
+        for (Long skuId : skuIds) {
+            keys.add(stockKey(skuId));
+            args.add(quantities.get(skuId));
+        }
+        keys.add(DELTA_KEY);
+        args.addAll(skuIds);
+
+        List<Object> result = script().eval(RScript.Mode.READ_WRITE, DECREASE_ALL_SCRIPT, RScript.ReturnType.LIST,
+                keys, args.toArray());
+
+        long status = Long.parseLong(String.valueOf(result.get(0)));
+        if (status == 0) {
+            return new DecreaseAllResult(0, null);
+        }
+        int failedIndex = Integer.parseInt(String.valueOf(result.get(1))) - 1;
+        return new DecreaseAllResult(status, skuIds.get(failedIndex));
+    }
+
+    /**
+     * @return 증가 후 재고, 카운터 미적재 시 {@link #NOT_LOADED}
+     */
+    public long increase(Long skuId, int quantity) {
+        Long result = script().eval(RScript.Mode.READ_WRITE, INCREASE_SCRIPT, RScript.ReturnType.LONG,
+                List.of(stockKey(skuId), DELTA_KEY), quantity, skuId);
+        return result;
+    }
+
+    /**
+     * 카운터가 없는 SKU만 DB 재고 + 미반영 증감분으로 적재 (다른 노드가 이미 운영 중인 카운터를 덮어쓰지 않음)
+     * @param levels 한 번의 조회로 읽은 재고 (모두 같은 반영 드레인 ID)
+     * @return 적재한 카운터 수, DB 조회 이후 드레인이 완료되었으면 {@link #STALE_SNAPSHOT} (다시 조회해야 함)
+     */
+    public long loadAllIfAbsent(List<StockLevel> levels) {
+        if (levels.isEmpty()) {
+            return 0;
+        }
+        List<Object> keys = new ArrayList<>(levels.size() + 3);
+        List<Object> args = new ArrayList<>(levels.size() * 2 + 1);
+        keys.addAll(List.of(DELTA_KEY, FLUSHING_KEY, APPLIED_KEY));
+        args.add(levels.get(0).appliedDrainId());
+        for (StockLevel level : levels) {
+            keys.add(stockKey(level.skuId()));
+            args.add(level.skuId());
+            args.add(level.stockQuantity());
+        }
+        Long result = script().eval(RScript.Mode.READ_WRITE, LOAD_SCRIPT, RScript.ReturnType.LONG,
+                keys, args.toArray());
+        return result;
+    }
+
+    /**
+     * @return 재설정한 재고, DB 조회 이후 드레인이 완료되었으면 {@link #STALE_SNAPSHOT} (다시 조회해야 함)
+     */
+    public long reload(StockLevel level) {
+        Long result = script().eval(RScript.Mode.READ_WRITE, RELOAD_SCRIPT, RScript.ReturnType.LONG,
+                List.of(DELTA_KEY, FLUSHING_KEY, APPLIED_KEY, stockKey(level.skuId())),
+                level.appliedDrainId(), level.skuId(), level.stockQuantity());
+        return result;
+    }
+
+    /**
+     * 미반영 증감분을 FLUSHING 키로 옮기고 드레인 ID와 함께 반환.
+     * DB 반영 후 {@link #completeDrain(long)}을 호출해야 하며, 호출 전까지는 같은 드레인이 다시 반환된다.
+     * @param lastAppliedId DB의 마지막 반영 드레인 ID (새 드레인 ID는 이보다 크게 발급)
+     */
+    public Optional<Drain> drainDeltas(long lastAppliedId) {
+        List<Object> entries = script().eval(RScript.Mode.READ_WRITE, DRAIN_SCRIPT, RScript.ReturnType.LIST,
+                List.of(DELTA_KEY, FLUSHING_KEY, DRAIN_SEQ_KEY), lastAppliedId);
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long drainId = 0;
+        Map<Long, Integer> deltas = new HashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            String field = String.valueOf(entries.get(i));
+            String value = String.valueOf(entries.get(i + 1));
+            if (DRAIN_ID_FIELD.equals(field)) {
+                drainId = Long.parseLong(value);
+                continue;
+            }
+            int delta = Integer.parseInt(value);
+            if (delta != 0) {
+                deltas.put(Long.valueOf(field), delta);
+            }
+        }
+        return Optional.of(new Drain(drainId, deltas));
+    }
+
+    public void completeDrain(long drainId) {
+        script().eval(RScript.Mode.READ_WRITE, COMPLETE_DRAIN_SCRIPT, RScript.ReturnType.LONG,
+                List.of(FLUSHING_KEY, APPLIED_KEY), drainId, APPLIED_TTL_MILLIS);
+    }
+
+    private RScript script() {
+        return redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    private String stockKey(Long skuId) {
+        return STOCK_PREFIX + skuId;
+    }
+
+    public record Drain(long id, Map<Long, Integer> deltas) {
+    }
+
+    public record DecreaseAllResult(long status, Long failedSkuId) {
+        public boolean isSuccess() {
+            return status == 0;
+        }
+    }
+}
@@ -3,5 +3,5 @@ package com.mall.product.repository;
 import com.mall.product.domain.Sku;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface SkuRepository extends JpaRepository<Sku, Long> {
+public interface SkuRepository extends JpaRepository<Sku, Long>, SkuRepositoryCustom {
 }
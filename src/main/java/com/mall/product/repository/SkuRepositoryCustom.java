@@ -0,0 +1,13 @@
+package com.mall.product.repository;
+
+import com.mall.product.dto.SkuSnapshot;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SkuRepositoryCustom {
+    /**
+     * SKU + 상품 정보를 한 번의 조회로 가져옴 (엔티티/지연 로딩 없이 필요한 컬럼만)
+     */
+    List<SkuSnapshot> findSnapshots(Collection<Long> skuIds);
+}
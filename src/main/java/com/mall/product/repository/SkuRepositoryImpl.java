@@ -0,0 +1,34 @@
+package com.mall.product.repository;
+
+import com.mall.product.dto.SkuSnapshot;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.mall.product.domain.QProduct.product;
+import static com.mall.product.domain.QSku.sku;
+
+@RequiredArgsConstructor
+public class SkuRepositoryImpl implements SkuRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<SkuSnapshot> findSnapshots(Collection<Long> skuIds) {
+        return queryFactory
+                .select(Projections.constructor(SkuSnapshot.class,
+                        sku.id,
+                        product.name,
+                        sku.skuCode,
+                        sku.attributes,
+                        product.basePrice,
+                        sku.additionalPrice))
+                .from(sku)
+                .join(sku.product, product)
+                .where(sku.id.in(skuIds))
+                .fetch();
+    }
+}
@@ -0,0 +1,20 @@
+package com.mall.product.repository;
+
+import com.mall.product.domain.StockDrain;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StockDrainRepository extends JpaRepository<StockDrain, Long> {
+
+    /**
+     * @return 마지막으로 DB에 반영된 드레인 ID (없으면 0)
+     */
+    @Query("SELECT COALESCE(MAX(d.id), 0L) FROM StockDrain d")
+    long findLastAppliedId();
+
+    @Modifying
+    @Query("DELETE FROM StockDrain d WHERE d.id < :id")
+    int deleteByIdLessThan(@Param("id") long id);
+}
@@ -0,0 +1,37 @@
+package com.mall.product.repository;
+
+import com.mall.product.domain.StockReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    List<StockReservation> findByOrderId(Long orderId);
+
+    /**
+     * 만료되지 않은 선점 수량 합 (판매 가능 재고 계산용)
+     */
+    @Query("SELECT COALESCE(SUM(r.quantity), 0) FROM StockReservation r " +
+           "WHERE r.skuId = :skuId AND r.expiresAt > :now")
+    long sumLiveQuantity(@Param("skuId") Long skuId, @Param("now") LocalDateTime now);
+
+    /**
+     * 주문 트랜잭션에 참여해 호출되므로 먼저 flush한다. (다른 테이블의 변경은 자동 flush 대상이 아니어서 clear 시 유실됨)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM StockReservation r WHERE r.orderId IN :orderIds")
+    int deleteByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 만료된 선점 정리 (재고 쓰기 없이 기록만 삭제)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM StockReservation r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,33 @@
+package com.mall.product.scheduler;
+
+import com.mall.product.repository.InventoryBucketRepository;
+import com.mall.product.service.InventoryBucketService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "mall.inventory", name = "mode", havingValue = "sharded")
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryBucketRebalancer {
+
+    private final InventoryBucketRepository inventoryBucketRepository;
+    private final InventoryBucketService inventoryBucketService;
+
+    /**
+     * 분할된 SKU의 버킷 재고를 주기적으로 균등화 (특정 버킷 고갈로 인한 형제 버킷 순회 감소)
+     */
+    @Scheduled(fixedDelayString = "${mall.inventory.sharded.rebalance-interval-ms:5000}")
+    public void rebalance() {
+        for (Long skuId : inventoryBucketRepository.findShardedSkuIds()) {
+            try {
+                inventoryBucketService.rebalance(skuId);
+            } catch (Exception e) {
+                log.error("Failed to rebalance inventory buckets. SKU: {}", skuId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.mall.product.scheduler;
+
+import com.mall.product.service.LedgerInventoryServiceImpl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "mall.inventory", name = "mode", havingValue = "ledger")
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationCleaner {
+
+    private final LedgerInventoryServiceImpl ledgerInventoryService;
+
+    /**
+     * 만료된 선점 기록 정리 (이미 재고 계산에서 제외되므로 지연되어도 정합성에는 영향 없음)
+     */
+    @Scheduled(fixedDelay = 300000) // 5분마다 실행
+    public void purgeExpiredReservations() {
+        int deleted = ledgerInventoryService.purgeExpiredReservations();
+        if (deleted > 0) {
+            log.info("Purged {} expired stock reservations", deleted);
+        }
+    }
+}
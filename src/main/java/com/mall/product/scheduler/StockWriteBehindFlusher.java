@@ -0,0 +1,49 @@
+package com.mall.product.scheduler;
+
+import com.mall.product.repository.RedisStockRepository;
+import com.mall.product.service.InventoryStockWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(prefix = "mall.inventory", name = "mode", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class StockWriteBehindFlusher {
+
+    private final RedisStockRepository redisStockRepository;
+    private final InventoryStockWriter inventoryStockWriter;
+
+    /**
+     * Redis 카운터에 누적된 SKU별 순증감분을 하나의 트랜잭션으로 DB에 반영
+     * 반영에 실패하면 FLUSHING 키가 남아 다음 주기에 같은 드레인 ID로 재시도한다.
+     * DB 반영 후 완료 처리 전에 실패한 드레인은 DB의 반영 기록으로 걸러져 완료 처리만 다시 한다.
+     */
+    @Scheduled(fixedDelayString = "${mall.inventory.redis.flush-interval-ms:1000}")
+    public void flush() {
+        Optional<RedisStockRepository.Drain> drained =
+                redisStockRepository.drainDeltas(inventoryStockWriter.findLastAppliedDrainId());
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        RedisStockRepository.Drain drain = drained.get();
+        try {
+            boolean applied = inventoryStockWriter.applyDeltas(drain.id(), drain.deltas());
+            redisStockRepository.completeDrain(drain.id());
+            if (applied) {
+                log.info("Flushed stock deltas to DB. Drain: {}, SKUs: {}", drain.id(), drain.deltas().size());
+            } else {
+                log.info("Stock deltas already flushed. Drain: {}", drain.id());
+            }
+        } catch (Exception e) {
+            log.error("Failed to flush stock deltas. Will retry. Drain: {}, SKUs: {}",
+                    drain.id(), drain.deltas().size(), e);
+        }
+    }
+}
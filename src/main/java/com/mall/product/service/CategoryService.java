@@ -33,8 +33,11 @@ public class CategoryService {
     }
 
     public List<CategoryTreeResponse> getWholeTree() {
-        List<Category> allCategories = categoryRepository.findAll();
-        
+        return buildTree(categoryRepository.findAll());
+    }
+
+    // JMH 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+    List<CategoryTreeResponse> buildTree(List<Category> allCategories) {
         Map<Long, List<Category>> childrenMap = allCategories.stream()
                 .filter(c -> c.getParent() != null)
                 .collect(Collectors.groupingBy(c -> c.getParent().getId()));
@@ -0,0 +1,100 @@
+package com.mall.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Group-commit 재고 서비스 (mall.inventory.mode=group-commit)
+ * 분산 락 없이 같은 SKU 차감 요청을 StockDecrementCombiner로 모아 한 번에 반영한다.
+ * 주문의 여러 SKU 선점도 SKU별로 배치에 합류하며, 일부 실패 시 보상 복구로 All-or-nothing을 유지한다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "mall.inventory", name = "mode", havingValue = "group-commit")
+@RequiredArgsConstructor
+@Slf4j
+public class GroupCommitInventoryServiceImpl implements InventoryService {
+
+    private final StockDecrementCombiner stockDecrementCombiner;
+    private final InventoryStockWriter inventoryStockWriter;
+    private final SoldOutCache soldOutCache;
+
+    @Override
+    public void decreaseStock(Long skuId, int quantity) {
+        if (soldOutCache.isSoldOut(skuId)) {
+            throw new IllegalStateException("품절된 상품입니다. SKU: " + skuId);
+        }
+
+        join(stockDecrementCombiner.submit(skuId, quantity));
+    }
+
+    @Override
+    public void increaseStock(Long skuId, int quantity) {
+        inventoryStockWriter.increase(skuId, quantity);
+        soldOutCache.remove(skuId);
+        log.info("Stock restored successfully. SKU: {}, Qty: +{}", skuId, quantity);
+    }
+
+    /**
+     * 주문의 SKU별 차감을 각각 같은 SKU 배치에 합류시키고 모두 끝날 때까지 기다린다.
+     * 하나라도 실패하면 이미 차감된 SKU를 복구한 뒤 실패를 전달한다. (All-or-nothing 보상)
+     */
+    @Override
+    public void reserveAll(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        Set<Long> soldOut = soldOutCache.findSoldOut(quantities.keySet());
+        if (!soldOut.isEmpty()) {
+            throw new IllegalStateException("품절된 상품이 포함되어 있습니다. SKUs: " + soldOut);
+        }
+
+        Map<Long, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        quantities.forEach((skuId, quantity) -> futures.put(skuId, stockDecrementCombiner.submit(skuId, quantity)));
+
+        List<Long> decreased = new ArrayList<>(futures.size());
+        RuntimeException failure = null;
+        for (Map.Entry<Long, CompletableFuture<Void>> entry : futures.entrySet()) {
+            try {
+                join(entry.getValue());
+                decreased.add(entry.getKey());
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            for (Long skuId : decreased) {
+                try {
+                    increaseStock(skuId, quantities.get(skuId));
+                } catch (Exception e) {
+                    log.error("Failed to restore stock after partial reservation. SKU: {}, Qty: {}", skuId, quantities.get(skuId), e);
+                }
+            }
+            throw failure;
+        }
+        log.info("Stock reserved successfully. SKUs: {}", quantities);
+    }
+
+    private void join(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
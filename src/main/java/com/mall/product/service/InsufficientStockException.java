@@ -0,0 +1,17 @@
+package com.mall.product.service;
+
+import lombok.Getter;
+
+/**
+ * 재고 부족 예외 (일괄 차감 시 어떤 SKU에서 실패했는지 전달)
+ */
+@Getter
+public class InsufficientStockException extends IllegalStateException {
+
+    private final Long skuId;
+
+    public InsufficientStockException(Long skuId) {
+        super("재고가 부족합니다. SKU: " + skuId);
+        this.skuId = skuId;
+    }
+}
@@ -0,0 +1,165 @@
+package com.mall.product.service;
+
+import com.mall.product.domain.Inventory;
+import com.mall.product.domain.InventoryBucket;
+import com.mall.product.repository.InventoryBucketRepository;
+import com.mall.product.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hot SKU 재고 버킷 관리 (mall.inventory.mode=sharded)
+ * 분할/병합, 버킷 간 재배치, 여러 버킷에 걸친 차감을 담당한다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "mall.inventory", name = "mode", havingValue = "sharded")
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryBucketService {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryBucketRepository inventoryBucketRepository;
+
+    // SKU별 버킷 수 캐시 (노드별). 다른 노드의 분할/병합으로 오래될 수 있어
+    // 차감 실패 시 DB 기준으로 다시 확인하고, 재배치 주기마다 분할된 SKU의 값을 갱신한다.
+    private final Map<Long, Integer> bucketCounts = new ConcurrentHashMap<>();
+
+    public int bucketCount(Long skuId) {
+        return bucketCounts.computeIfAbsent(skuId, inventoryBucketRepository::countBySkuId);
+    }
+
+    public int refreshBucketCount(Long skuId) {
+        int count = inventoryBucketRepository.countBySkuId(skuId);
+        bucketCounts.put(skuId, count);
+        return count;
+    }
+
+    /**
+     * SKU 재고를 N개 버킷으로 분할 (0이면 버킷을 모두 Inventory로 병합)
+     */
+    @Transactional
+    public void shard(Long skuId, int bucketCount) {
+        if (bucketCount < 0) {
+            throw new IllegalArgumentException("버킷 수는 0 이상이어야 합니다: " + bucketCount);
+        }
+
+        Inventory inventory = inventoryRepository.findBySkuIdForUpdate(skuId)
+                .orElseThrow(() -> new IllegalArgumentException("재고 정보가 존재하지 않습니다. SKU: " + skuId));
+        List<InventoryBucket> buckets = inventoryBucketRepository.findAllBySkuIdForUpdate(skuId);
+
+        int total = inventory.getStockQuantity() + sum(buckets);
+
+        // 범위를 벗어나는 버킷 제거, 부족한 버킷 생성
+        buckets.stream()
+                .filter(b -> b.getBucketNo() >= bucketCount)
+                .forEach(inventoryBucketRepository::delete);
+        List<InventoryBucket> kept = new ArrayList<>(buckets.stream()
+                .filter(b -> b.getBucketNo() < bucketCount)
+                .toList());
+        Set<Integer> existing = kept.stream().map(InventoryBucket::getBucketNo).collect(Collectors.toSet());
+        for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+            if (!existing.contains(bucketNo)) {
+                kept.add(inventoryBucketRepository.save(InventoryBucket.builder()
+                        .sku(inventory.getSku())
+                        .bucketNo(bucketNo)
+                        .stockQuantity(0)
+                        .build()));
+            }
+        }
+
+        if (bucketCount == 0) {
+            inventory.updateStock(total);
+        } else {
+            inventory.updateStock(0);
+            distribute(kept, total);
+        }
+        bucketCounts.put(skuId, bucketCount);
+
+        log.info("Inventory sharded. SKU: {}, Buckets: {}, Total: {}", skuId, bucketCount, total);
+    }
+
+    /**
+     * 버킷 간 재고 편차가 크면 균등 재배치 (합계는 유지)
+     * 버킷 수 캐시가 오래된 노드가 Inventory 행으로 복구한 재고가 있으면 버킷으로 옮긴다.
+     */
+    @Transactional
+    public void rebalance(Long skuId) {
+        // shard()와 같은 순서(Inventory -> 버킷)로 잠가 교착 방지
+        Inventory inventory = inventoryRepository.findBySkuIdForUpdate(skuId).orElse(null);
+        List<InventoryBucket> buckets = inventoryBucketRepository.findAllBySkuIdForUpdate(skuId);
+        bucketCounts.put(skuId, buckets.size());
+        if (inventory == null || buckets.isEmpty()) {
+            return;
+        }
+
+        int stranded = inventory.getStockQuantity();
+        if (stranded > 0) {
+            inventory.updateStock(0);
+            distribute(buckets, sum(buckets) + stranded);
+            log.info("Stock moved from inventory row to buckets. SKU: {}, Qty: {}", skuId, stranded);
+            return;
+        }
+
+        if (buckets.size() < 2) {
+            return;
+        }
+
+        int min = buckets.stream().mapToInt(InventoryBucket::getStockQuantity).min().orElse(0);
+        int max = buckets.stream().mapToInt(InventoryBucket::getStockQuantity).max().orElse(0);
+        if (max - min <= 1) {
+            return;
+        }
+
+        distribute(buckets, sum(buckets));
+        log.debug("Inventory buckets rebalanced. SKU: {}, Min: {}, Max: {}", skuId, min, max);
+    }
+
+    /**
+     * 단일 버킷으로 충족할 수 없는 수량을 여러 버킷에 걸쳐 차감 (현재 트랜잭션에 참여)
+     */
+    @Transactional
+    public void decreaseAcrossBuckets(Long skuId, int quantity) {
+        List<InventoryBucket> buckets = inventoryBucketRepository.findAllBySkuIdForUpdate(skuId);
+        if (sum(buckets) < quantity) {
+            throw new InsufficientStockException(skuId);
+        }
+
+        int remaining = quantity;
+        for (InventoryBucket bucket : buckets.stream()
+                .sorted(Comparator.comparing(InventoryBucket::getStockQuantity).reversed())
+                .toList()) {
+            int taken = Math.min(bucket.getStockQuantity(), remaining);
+            bucket.updateStock(bucket.getStockQuantity() - taken);
+            remaining -= taken;
+            if (remaining == 0) {
+                break;
+            }
+        }
+    }
+
+    private void distribute(List<InventoryBucket> buckets, int total) {
+        List<InventoryBucket> ordered = buckets.stream()
+                .sorted(Comparator.comparing(InventoryBucket::getBucketNo))
+                .toList();
+        int share = total / ordered.size();
+        int remainder = total % ordered.size();
+        for (int i = 0; i < ordered.size(); i++) {
+            ordered.get(i).updateStock(share + (i < remainder ? 1 : 0));
+        }
+    }
+
+    private int sum(List<InventoryBucket> buckets) {
+        return buckets.stream().mapToInt(InventoryBucket::getStockQuantity).sum();
+    }
+}
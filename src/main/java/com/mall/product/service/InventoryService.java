@@ -1,69 +1,59 @@
 package com.mall.product.service;
 
-import com.mall.config.lock.DistributedLock;
-import com.mall.product.repository.InventoryRepository;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RBucket;
-import org.redisson.api.RedissonClient;
-import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
-import java.util.concurrent.TimeUnit;
+import java.util.Collection;
+import java.util.Map;
 
-@Service
-@RequiredArgsConstructor
-@Slf4j
-public class InventoryService {
-
-    private final InventoryRepository inventoryRepository;
-    private final RedissonClient redissonClient;
-
-    private static final String SOLD_OUT_PREFIX = "SOLD_OUT:";
+/**
+ * 재고 차감/복구 API
+ * 구현체는 mall.inventory.mode 설정으로 선택한다. (db, redis, sharded, group-commit, ledger)
+ */
+public interface InventoryService {
+    void decreaseStock(Long skuId, int quantity);
+    void increaseStock(Long skuId, int quantity);
 
     /**
-     * 재고 차감 (3중 방어: 품절 캐시 + 분산 락 + DB Atomic Update)
+     * 여러 SKU 재고 일괄 차감 (All-or-nothing: 하나라도 부족하면 아무것도 차감하지 않음)
+     * @param quantities SKU ID별 차감 수량
      */
-    @DistributedLock(key = "#skuId")
-    public void decreaseStock(Long skuId, int quantity) {
-        // 1. Sold-out Cache 확인 (Fail-fast)
-        if (isSoldOut(skuId)) {
-            throw new IllegalStateException("품절된 상품입니다. SKU: " + skuId);
-        }
-
-        // 2. DB Atomic Update 실행
-        int updatedRows = inventoryRepository.decreaseStock(skuId, quantity);
+    void reserveAll(Map<Long, Integer> quantities);
 
-        // 3. 업데이트 결과 확인
-        if (updatedRows == 0) {
-            // 품절 확정 시 캐싱 (10초간 DB 접근 차단)
-            markAsSoldOut(skuId);
-            throw new IllegalStateException("재고가 부족합니다. SKU: " + skuId);
-        }
-        
-        log.info("Stock decreased successfully. SKU: {}, Qty: -{}", skuId, quantity);
+    /**
+     * 주문 재고 선점. 기본 구현은 즉시 차감한다.
+     * 기본 구현은 프록시를 거치지 않으므로, 락/트랜잭션 설정이 필요한 구현체는 직접 재정의한다.
+     */
+    default void reserve(Long orderId, Map<Long, Integer> quantities) {
+        reserveAll(quantities);
     }
 
     /**
-     * 재고 복구 (락 적용 및 품절 캐시 제거)
+     * 결제 완료 시 선점 확정. 즉시 차감 방식에서는 이미 차감되었으므로 할 일이 없다.
      */
-    @DistributedLock(key = "#skuId")
-    public void increaseStock(Long skuId, int quantity) {
-        inventoryRepository.increaseStock(skuId, quantity);
-        removeSoldOutCache(skuId);
-        log.info("Stock restored successfully. SKU: {}, Qty: +{}", skuId, quantity);
+    default void confirm(Long orderId, Map<Long, Integer> quantities) {
     }
 
-    private boolean isSoldOut(Long skuId) {
-        RBucket<String> bucket = redissonClient.getBucket(SOLD_OUT_PREFIX + skuId);
-        return bucket.isExists();
+    /**
+     * 주문 취소 시 선점 해제. 즉시 차감 방식에서는 차감분을 복구한다.
+     * 주문 롤백 시 afterCompletion(트랜잭션 없음)에서도 호출된다.
+     */
+    default void release(Long orderId, Map<Long, Integer> quantities) {
+        quantities.forEach(this::increaseStock);
     }
 
-    private void markAsSoldOut(Long skuId) {
-        RBucket<String> bucket = redissonClient.getBucket(SOLD_OUT_PREFIX + skuId);
-        bucket.set("TRUE", 10, TimeUnit.SECONDS);
+    /**
+     * 결제 확정된 주문 취소 시 재고 복구. 즉시 차감 방식에서는 선점 해제와 같다.
+     */
+    default void releaseConfirmed(Long orderId, Map<Long, Integer> quantities) {
+        release(orderId, quantities);
     }
 
-    private void removeSoldOutCache(Long skuId) {
-        redissonClient.getBucket(SOLD_OUT_PREFIX + skuId).delete();
+    /**
+     * 여러 주문의 선점 일괄 해제 (만료 주문 일괄 취소). 기본 구현은 SKU당 한 번씩 합계 수량을 복구하고,
+     * 호출 트랜잭션이 롤백되면 복구분을 다시 차감한다. (DB 트랜잭션이 필요 없는 구현체용)
+     * @param quantities 주문 전체의 SKU ID별 합계 수량
+     */
+    default void releaseAll(Collection<Long> orderIds, Map<Long, Integer> quantities) {
+        StockRestoreCompensation.restoreEach(this, TransactionOperations.withoutTransaction(), quantities);
     }
 }
@@ -0,0 +1,136 @@
+package com.mall.product.service;
+
+import com.mall.config.lock.DistributedLock;
+import com.mall.config.lock.LockMode;
+import com.mall.product.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Service
+@ConditionalOnProperty(prefix = "mall.inventory", name = "mode", havingValue = "db", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryServiceImpl implements InventoryService {
+
+    private final InventoryRepository inventoryRepository;
+    private final SoldOutCache soldOutCache;
+    // 프록시를 거쳐 SKU별 복구를 각각 커밋하기 위한 자기 자신 참조
+    private final ObjectProvider<InventoryService> self;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 재고 차감 (3중 방어: 품절 캐시 + 분산 락 + DB Atomic Update)
+     * 조건부 UPDATE가 정합성을 보장하므로 경합이 낮은 SKU는 락 없이 실행하고, 충돌률이 높아지면 분산 락을 사용한다.
+     */
+    @Override
+    @DistributedLock(key = "#skuId", mode = LockMode.ADAPTIVE)
+    public void decreaseStock(Long skuId, int quantity) {
+        // 1. Sold-out Cache 확인 (Fail-fast, 로컬 Near-cache 우선)
+        if (soldOutCache.isSoldOut(skuId)) {
+            throw new IllegalStateException("품절된 상품입니다. SKU: " + skuId);
+        }
+
+        // 2. DB Atomic Update 실행
+        int updatedRows = inventoryRepository.decreaseStock(skuId, quantity);
+
+        // 3. 업데이트 결과 확인
+        if (updatedRows == 0) {
+            // 품절 확정 시 캐싱 (10초간 DB 접근 차단)
+            soldOutCache.markAsSoldOut(skuId);
+            throw new IllegalStateException("재고가 부족합니다. SKU: " + skuId);
+        }
+        
+        log.info("Stock decreased successfully. SKU: {}, Qty: -{}", skuId, quantity);
+    }
+
+    /**
+     * 재고 복구 (락 적용 및 품절 캐시 제거)
+     */
+    @Override
+    @DistributedLock(key = "#skuId", mode = LockMode.ADAPTIVE)
+    public void increaseStock(Long skuId, int quantity) {
+        inventoryRepository.increaseStock(skuId, quantity);
+        soldOutCache.remove(skuId);
+        log.info("Stock restored successfully. SKU: {}, Qty: +{}", skuId, quantity);
+    }
+
+    /**
+     * 여러 SKU 재고 일괄 차감
+     * 하나의 트랜잭션에서 SKU ID 순서로 차감하며, 경합이 감지되면 전체 SKU 락을 정렬된 순서로 한 번에 획득(Multi-lock)한다.
+     */
+    @Override
+    @DistributedLock(key = "#quantities.keySet()", mode = LockMode.ADAPTIVE)
+    public void reserveAll(Map<Long, Integer> quantities) {
+        decreaseAll(quantities);
+    }
+
+    /**
+     * 주문 재고 선점 (기본 구현은 this.reserveAll을 호출해 락과 트랜잭션 분리가 적용되지 않으므로 재정의)
+     * 주문 트랜잭션과 분리해 즉시 커밋하고, 주문이 롤백되면 OrderService가 release로 복구한다.
+     */
+    @Override
+    @DistributedLock(key = "#quantities.keySet()", mode = LockMode.ADAPTIVE)
+    public void reserve(Long orderId, Map<Long, Integer> quantities) {
+        decreaseAll(quantities);
+    }
+
+    /**
+     * 주문 취소/롤백 시 재고 복구 (주문 롤백 후 afterCompletion에서도 락과 별도 트랜잭션으로 실행)
+     */
+    @Override
+    @DistributedLock(key = "#quantities.keySet()", mode = LockMode.ADAPTIVE)
+    public void release(Long orderId, Map<Long, Integer> quantities) {
+        increaseAll(quantities);
+    }
+
+    @Override
+    @DistributedLock(key = "#quantities.keySet()", mode = LockMode.ADAPTIVE)
+    public void releaseConfirmed(Long orderId, Map<Long, Integer> quantities) {
+        increaseAll(quantities);
+    }
+
+    /**
+     * 만료 주문 일괄 취소: 프록시를 통해 SKU별로 복구해 각각 커밋하고,
+     * 일괄 취소 트랜잭션이 롤백되면 복구분을 새 트랜잭션에서 다시 차감한다.
+     */
+    @Override
+    public void releaseAll(Collection<Long> orderIds, Map<Long, Integer> quantities) {
+        StockRestoreCompensation.restoreEach(self.getObject(),
+                StockRestoreCompensation.requiresNew(transactionManager), new TreeMap<>(quantities));
+    }
+
+    private void decreaseAll(Map<Long, Integer> quantities) {
+        // 1. Sold-out Cache 일괄 확인 (로컬 Near-cache 우선, 나머지는 MGET 1회)
+        Set<Long> soldOut = soldOutCache.findSoldOut(quantities.keySet());
+        if (!soldOut.isEmpty()) {
+            throw new IllegalStateException("품절된 상품이 포함되어 있습니다. SKUs: " + soldOut);
+        }
+
+        // 2. 하나라도 부족하면 예외로 전체 롤백
+        new TreeMap<>(quantities).forEach((skuId, quantity) -> {
+            if (inventoryRepository.decreaseStock(skuId, quantity) == 0) {
+                soldOutCache.markAsSoldOut(skuId);
+                throw new InsufficientStockException(skuId);
+            }
+        });
+
+        log.info("Stock reserved successfully. SKUs: {}", quantities);
+    }
+
+    private void increaseAll(Map<Long, Integer> quantities) {
+        new TreeMap<>(quantities).forEach((skuId, quantity) -> {
+            inventoryRepository.increaseStock(skuId, quantity);
+            soldOutCache.remove(skuId);
+        });
+        log.info("Stock restored successfully. SKUs: {}", quantities);
+    }
+}
@@ -0,0 +1,97 @@
+package com.mall.product.service;
+
+import com.mall.product.domain.Inventory;
+import com.mall.product.domain.StockDrain;
+import com.mall.product.repository.InventoryRepository;
+import com.mall.product.repository.StockDrainRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 여러 SKU의 재고 변경을 하나의 트랜잭션으로 DB에 반영하는 컴포넌트
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryStockWriter {
+
+    // 재시도되는 드레인은 항상 마지막 반영 ID 이후이므로 최근 기록만 남긴다
+    private static final long RETAINED_DRAINS = 1000L;
+
+    private final InventoryRepository inventoryRepository;
+    private final StockDrainRepository stockDrainRepository;
+
+    /**
+     * 단일 조건부 UPDATE로 차감 (Group-commit 배치 합계 적용)
+     * @return 재고가 충분해 차감되었으면 true
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryDecrease(Long skuId, int quantity) {
+        return inventoryRepository.decreaseStock(skuId, quantity) == 1;
+    }
+
+    /**
+     * 배치 합계만큼 재고가 없을 때: 행 락을 잡고 요청 순서대로 가능한 만큼 차감 (UPDATE 1회)
+     * @return 요청별 성공 여부
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean[] decreaseInOrder(Long skuId, int[] quantities) {
+        boolean[] results = new boolean[quantities.length];
+        Inventory inventory = inventoryRepository.findBySkuIdForUpdate(skuId).orElse(null);
+        if (inventory == null) {
+            return results;
+        }
+
+        int stock = inventory.getStockQuantity();
+        for (int i = 0; i < quantities.length; i++) {
+            if (quantities[i] <= stock) {
+                stock -= quantities[i];
+                results[i] = true;
+            }
+        }
+        inventory.updateStock(stock);
+        return results;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void increase(Long skuId, int quantity) {
+        inventoryRepository.increaseStock(skuId, quantity);
+    }
+
+    @Transactional(readOnly = true)
+    public long findLastAppliedDrainId() {
+        return stockDrainRepository.findLastAppliedId();
+    }
+
+    /**
+     * Write-behind 순증감분 일괄 반영 (전부 반영되거나 전부 롤백)
+     * 드레인 ID를 같은 트랜잭션에 기록해 같은 드레인을 두 번 반영하지 않는다.
+     * 다른 노드가 같은 드레인을 동시에 반영하면 PK 충돌로 한쪽이 롤백된다.
+     * @return 이미 반영된 드레인이면 false
+     */
+    @Transactional
+    public boolean applyDeltas(long drainId, Map<Long, Integer> deltas) {
+        if (stockDrainRepository.existsById(drainId)) {
+            return false;
+        }
+        stockDrainRepository.saveAndFlush(StockDrain.builder()
+                .id(drainId)
+                .appliedAt(LocalDateTime.now())
+                .build());
+        stockDrainRepository.deleteByIdLessThan(drainId - RETAINED_DRAINS);
+
+        deltas.forEach((skuId, delta) -> {
+            int updatedRows = inventoryRepository.applyStockDelta(skuId, delta);
+            if (updatedRows == 0) {
+                log.warn("Inventory row not found while flushing stock delta. SKU: {}, Delta: {}", skuId, delta);
+            }
+        });
+        return true;
+    }
+}
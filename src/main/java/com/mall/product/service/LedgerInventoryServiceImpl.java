@@ -0,0 +1,161 @@
+package com.mall.product.service;
+
+import com.mall.product.domain.Inventory;
+import com.mall.product.domain.StockReservation;
+import com.mall.product.repository.InventoryRepository;
+import com.mall.product.repository.StockReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 선점 원장 기반 재고 서비스 (mall.inventory.mode=ledger)
+ * 주문 시 재고를 차감하지 않고 만료 시각이 있는 선점 기록을 남긴다.
+ * 결제 시 선점을 실제 차감으로 확정하고, 취소/미결제 주문의 선점은 삭제되거나 만료될 뿐 재고 복구 쓰기가 없다.
+ * (결제 확정 후 취소된 주문만 차감분을 복구한다)
+ * 동시성은 Inventory 행 락(SELECT ... FOR UPDATE)으로 제어하며, 교착 방지를 위해 SKU ID 오름차순으로 잠근다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "mall.inventory", name = "mode", havingValue = "ledger")
+@Slf4j
+public class LedgerInventoryServiceImpl implements InventoryService {
+
+    private final InventoryRepository inventoryRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final long reservationTtlMinutes;
+
+    public LedgerInventoryServiceImpl(InventoryRepository inventoryRepository,
+                                      StockReservationRepository stockReservationRepository,
+                                      @Value("${mall.inventory.ledger.reservation-ttl-minutes:15}") long reservationTtlMinutes) {
+        this.inventoryRepository = inventoryRepository;
+        this.stockReservationRepository = stockReservationRepository;
+        this.reservationTtlMinutes = reservationTtlMinutes;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void decreaseStock(Long skuId, int quantity) {
+        decrease(skuId, quantity, LocalDateTime.now());
+        log.info("Stock decreased successfully. SKU: {}, Qty: -{}", skuId, quantity);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void increaseStock(Long skuId, int quantity) {
+        inventoryRepository.increaseStock(skuId, quantity);
+        log.info("Stock restored successfully. SKU: {}, Qty: +{}", skuId, quantity);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void reserveAll(Map<Long, Integer> quantities) {
+        LocalDateTime now = LocalDateTime.now();
+        new TreeMap<>(quantities).forEach((skuId, quantity) -> decrease(skuId, quantity, now));
+    }
+
+    /**
+     * 판매 가능 재고를 확인하고 선점 기록만 남긴다. (Inventory 재고는 변경하지 않음)
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void reserve(Long orderId, Map<Long, Integer> quantities) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusMinutes(reservationTtlMinutes);
+
+        new TreeMap<>(quantities).forEach((skuId, quantity) -> {
+            Inventory inventory = lockInventory(skuId);
+            if (available(inventory, now) < quantity) {
+                throw new InsufficientStockException(skuId);
+            }
+            stockReservationRepository.save(StockReservation.builder()
+                    .skuId(skuId)
+                    .orderId(orderId)
+                    .quantity(quantity)
+                    .expiresAt(expiresAt)
+                    .build());
+        });
+
+        log.info("Stock reserved. OrderId: {}, SKUs: {}, ExpiresAt: {}", orderId, quantities, expiresAt);
+    }
+
+    /**
+     * 선점을 실제 차감으로 확정 (결제 트랜잭션에 참여)
+     * 선점이 이미 만료되었더라도 그 사이 다른 주문이 가져가지 않았다면 확정할 수 있다.
+     */
+    @Override
+    @Transactional
+    public void confirm(Long orderId, Map<Long, Integer> quantities) {
+        // 자신의 선점을 먼저 제거한 뒤 남은 판매 가능 재고로 확인 (행 락 이전에 벌크 삭제로 영속성 컨텍스트 정리)
+        stockReservationRepository.deleteByOrderIds(List.of(orderId));
+
+        LocalDateTime now = LocalDateTime.now();
+        new TreeMap<>(quantities).forEach((skuId, quantity) -> decrease(skuId, quantity, now));
+
+        log.info("Stock reservation confirmed. OrderId: {}, SKUs: {}", orderId, quantities);
+    }
+
+    /**
+     * 선점 해제: 기록만 삭제하며 재고 쓰기는 없다.
+     * 주문 롤백 후(afterCompletion)에도 호출되므로 다른 재고 쓰기와 같이 별도 트랜잭션으로 커밋한다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(Long orderId, Map<Long, Integer> quantities) {
+        int deleted = stockReservationRepository.deleteByOrderIds(List.of(orderId));
+        log.info("Stock reservation released. OrderId: {}, Reservations: {}", orderId, deleted);
+    }
+
+    /**
+     * 확정된 주문 취소: 선점 기록은 이미 없으므로 확정 시 차감한 재고를 복구한다. (취소 트랜잭션에 참여)
+     */
+    @Override
+    @Transactional
+    public void releaseConfirmed(Long orderId, Map<Long, Integer> quantities) {
+        new TreeMap<>(quantities).forEach((skuId, quantity) -> {
+            Inventory inventory = lockInventory(skuId);
+            inventory.updateStock(inventory.getStockQuantity() + quantity);
+        });
+        log.info("Confirmed stock restored. OrderId: {}, SKUs: {}", orderId, quantities);
+    }
+
+    /**
+     * 일괄 해제는 주문 상태 변경과 같은 트랜잭션으로 커밋한다. (둘 다 DB 쓰기뿐이므로 함께 롤백 가능)
+     */
+    @Override
+    @Transactional
+    public void releaseAll(Collection<Long> orderIds, Map<Long, Integer> quantities) {
+        int deleted = stockReservationRepository.deleteByOrderIds(orderIds);
+        log.info("Stock reservations released. Orders: {}, Reservations: {}", orderIds.size(), deleted);
+    }
+
+    @Transactional
+    public int purgeExpiredReservations() {
+        return stockReservationRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private void decrease(Long skuId, int quantity, LocalDateTime now) {
+        Inventory inventory = lockInventory(skuId);
+        if (available(inventory, now) < quantity) {
+            throw new InsufficientStockException(skuId);
+        }
+        inventory.updateStock(inventory.getStockQuantity() - quantity);
+    }
+
+    private Inventory lockInventory(Long skuId) {
+        return inventoryRepository.findBySkuIdForUpdate(skuId)
+                .orElseThrow(() -> new InsufficientStockException(skuId));
+    }
+
+    private long available(Inventory inventory, LocalDateTime now) {
+        return inventory.getStockQuantity() - stockReservationRepository.sumLiveQuantity(inventory.getSku().getId(), now);
+    }
+}
@@ -15,6 +15,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -45,6 +47,7 @@ public class ProductService {
                 .status(ProductStatus.DRAFT)
                 .build();
 
+        List<Inventory> inventories = new ArrayList<>();
         if (request.skus() != null) {
             request.skus().forEach(skuReq -> {
                 Sku sku = Sku.builder()
@@ -55,15 +58,17 @@ public class ProductService {
                 product.addSku(sku);
                 
                 // Inventory 생성 및 연결
-                Inventory inventory = Inventory.builder()
+                inventories.add(Inventory.builder()
                         .sku(sku)
                         .stockQuantity(skuReq.stockQuantity())
-                        .build();
-                inventoryRepository.save(inventory);
+                        .build());
             });
         }
 
-        return productRepository.save(product).getId();
+        // 상품 -> SKU -> 재고 순으로 저장 (시퀀스 ID라 INSERT는 커밋 시 테이블별 JDBC 배치로 실행)
+        Long productId = productRepository.save(product).getId();
+        inventoryRepository.saveAll(inventories);
+        return productId;
     }
 
     @Transactional
@@ -84,37 +89,40 @@ public class ProductService {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품이 존재하지 않습니다: " + productId));
 
-        Sku sku = product.getSkus().stream()
+        Sku sku = matchSku(product.getSkus(), options);
+        return mapToSkuResponse(sku, inventoryRepository.findTotalStocks(List.of(sku.getId())));
+    }
+
+    // JMH 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+    Sku matchSku(List<Sku> skus, Map<String, Object> options) {
+        return skus.stream()
                 .filter(s -> s.getAttributes().equals(options))
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("해당 옵션 조합의 상품이 존재하지 않습니다."));
-
-        return mapToSkuResponse(sku);
     }
 
     private ProductResponse mapToProductResponse(Product p) {
+        Map<Long, Integer> stocks = inventoryRepository.findTotalStocks(
+                p.getSkus().stream().map(Sku::getId).toList());
+
         return new ProductResponse(
                 p.getId(),
                 p.getName(),
                 p.getBasePrice(),
                 p.getAttributes(),
                 p.getSkus().stream()
-                        .map(this::mapToSkuResponse)
+                        .map(s -> mapToSkuResponse(s, stocks))
                         .collect(Collectors.toList())
         );
     }
 
-    private SkuResponse mapToSkuResponse(Sku s) {
-        Integer stock = inventoryRepository.findBySkuId(s.getId())
-                .map(Inventory::getStockQuantity)
-                .orElse(0);
-
+    private SkuResponse mapToSkuResponse(Sku s, Map<Long, Integer> stocks) {
         return new SkuResponse(
                 s.getId(),
                 s.getSkuCode(),
                 s.getAttributes(),
                 s.getAdditionalPrice(),
-                stock
+                stocks.getOrDefault(s.getId(), 0)
         );
     }
 }
@@ -0,0 +1,73 @@
+package com.mall.product.service;
+
+import com.mall.product.repository.RedisStockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Redis 카운터 기반 재고 서비스 (mall.inventory.mode=redis)
+ * 분산 락 없이 Lua 스크립트로 원자적 차감하고, DB 반영은 StockWriteBehindFlusher가 일괄 처리한다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "mall.inventory", name = "mode", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisInventoryServiceImpl implements InventoryService {
+
+    private final RedisStockRepository redisStockRepository;
+    private final StockCounterLoader stockCounterLoader;
+
+    @Override
+    public void decreaseStock(Long skuId, int quantity) {
+        long remaining = redisStockRepository.decrease(skuId, quantity);
+        if (remaining == RedisStockRepository.NOT_LOADED && stockCounterLoader.load(skuId)) {
+            remaining = redisStockRepository.decrease(skuId, quantity);
+        }
+
+        if (remaining < 0) {
+            throw new IllegalStateException("재고가 부족합니다. SKU: " + skuId);
+        }
+
+        log.info("Stock decreased successfully. SKU: {}, Qty: -{}, Remaining: {}", skuId, quantity, remaining);
+    }
+
+    @Override
+    public void increaseStock(Long skuId, int quantity) {
+        long stock = redisStockRepository.increase(skuId, quantity);
+        if (stock == RedisStockRepository.NOT_LOADED) {
+            // 카운터가 없으면 DB 재고(복구 전)로 적재 후 다시 증가시켜 증감분이 누락되지 않도록 한다.
+            if (!stockCounterLoader.load(skuId)) {
+                throw new IllegalArgumentException("재고 정보가 존재하지 않습니다. SKU: " + skuId);
+            }
+            redisStockRepository.increase(skuId, quantity);
+        }
+
+        log.info("Stock restored successfully. SKU: {}, Qty: +{}", skuId, quantity);
+    }
+
+    @Override
+    public void reserveAll(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> ordered = new TreeMap<>(quantities);
+
+        // 카운터가 없는 SKU는 적재 후 재시도 (SKU 수만큼만 재시도)
+        for (int attempt = 0; attempt <= ordered.size(); attempt++) {
+            RedisStockRepository.DecreaseAllResult result = redisStockRepository.decreaseAll(ordered);
+            if (result.isSuccess()) {
+                log.info("Stock reserved successfully. SKUs: {}", ordered);
+                return;
+            }
+            if (result.status() != RedisStockRepository.NOT_LOADED || !stockCounterLoader.load(result.failedSkuId())) {
+                throw new InsufficientStockException(result.failedSkuId());
+            }
+        }
+        throw new IllegalStateException("재고 카운터 적재에 실패했습니다. SKUs: " + ordered.keySet());
+    }
+}
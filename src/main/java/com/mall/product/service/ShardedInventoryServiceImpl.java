@@ -0,0 +1,143 @@
+package com.mall.product.service;
+
+import com.mall.product.repository.InventoryBucketRepository;
+import com.mall.product.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 분할 버킷 기반 재고 서비스 (mall.inventory.mode=sharded)
+ * 분할된 SKU는 임의의 버킷부터 조건부 UPDATE를 시도해 행 락 경합을 분산하고, 분산 락은 사용하지 않는다.
+ * 분할되지 않은 SKU는 Inventory 행에 조건부 UPDATE를 그대로 적용한다.
+ * 행 락을 오래 잡지 않도록 호출 측 트랜잭션과 분리해 즉시 커밋한다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "mall.inventory", name = "mode", havingValue = "sharded")
+@RequiredArgsConstructor
+@Slf4j
+public class ShardedInventoryServiceImpl implements InventoryService {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryBucketRepository inventoryBucketRepository;
+    private final InventoryBucketService inventoryBucketService;
+    // 프록시를 거쳐 SKU별 복구를 각각 커밋하기 위한 자기 자신 참조
+    private final ObjectProvider<InventoryService> self;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void decreaseStock(Long skuId, int quantity) {
+        decrease(skuId, quantity);
+        log.info("Stock decreased successfully. SKU: {}, Qty: -{}", skuId, quantity);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void increaseStock(Long skuId, int quantity) {
+        increase(skuId, quantity);
+        log.info("Stock restored successfully. SKU: {}, Qty: +{}", skuId, quantity);
+    }
+
+    /**
+     * SKU ID 오름차순으로 차감해 행 락 교착을 방지하고, 하나라도 부족하면 전체 롤백
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void reserveAll(Map<Long, Integer> quantities) {
+        new TreeMap<>(quantities).forEach(this::decrease);
+        log.info("Stock reserved successfully. SKUs: {}", quantities);
+    }
+
+    /**
+     * 주문 재고 선점 (기본 구현은 this.reserveAll을 호출해 트랜잭션 분리가 적용되지 않으므로 재정의)
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void reserve(Long orderId, Map<Long, Integer> quantities) {
+        new TreeMap<>(quantities).forEach(this::decrease);
+        log.info("Stock reserved successfully. Order: {}, SKUs: {}", orderId, quantities);
+    }
+
+    /**
+     * 주문 취소/롤백 시 재고 복구 (주문 롤백 후 afterCompletion에서도 별도 트랜잭션으로 실행)
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(Long orderId, Map<Long, Integer> quantities) {
+        new TreeMap<>(quantities).forEach(this::increase);
+        log.info("Stock restored successfully. Order: {}, SKUs: {}", orderId, quantities);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void releaseConfirmed(Long orderId, Map<Long, Integer> quantities) {
+        release(orderId, quantities);
+    }
+
+    /**
+     * 만료 주문 일괄 취소: 프록시를 통해 SKU별로 복구해 각각 커밋하고,
+     * 일괄 취소 트랜잭션이 롤백되면 복구분을 새 트랜잭션에서 다시 차감한다.
+     */
+    @Override
+    public void releaseAll(Collection<Long> orderIds, Map<Long, Integer> quantities) {
+        StockRestoreCompensation.restoreEach(self.getObject(),
+                StockRestoreCompensation.requiresNew(transactionManager), new TreeMap<>(quantities));
+    }
+
+    private void increase(Long skuId, int quantity) {
+        int bucketCount = inventoryBucketService.bucketCount(skuId);
+        if (bucketCount == 0 || inventoryBucketRepository.increaseStock(skuId, pickBucket(bucketCount), quantity) == 0) {
+            inventoryRepository.increaseStock(skuId, quantity);
+        }
+    }
+
+    private void decrease(Long skuId, int quantity) {
+        int bucketCount = inventoryBucketService.bucketCount(skuId);
+        if (tryDecrease(skuId, bucketCount, quantity)) {
+            return;
+        }
+
+        // 다른 노드에서 분할/병합되었을 수 있으므로 DB 기준 버킷 수로 다시 시도
+        int actualCount = inventoryBucketService.refreshBucketCount(skuId);
+        if (actualCount != bucketCount && tryDecrease(skuId, actualCount, quantity)) {
+            return;
+        }
+        if (actualCount == 0) {
+            throw new InsufficientStockException(skuId);
+        }
+
+        // 단일 버킷으로 충족할 수 없으면 모든 버킷에 락을 걸고 나눠서 차감
+        inventoryBucketService.decreaseAcrossBuckets(skuId, quantity);
+    }
+
+    /**
+     * 분할되지 않은 SKU는 Inventory 행, 분할된 SKU는 임의의 버킷부터 재고가 남은 형제 버킷으로 순회하며 조건부 UPDATE
+     */
+    private boolean tryDecrease(Long skuId, int bucketCount, int quantity) {
+        if (bucketCount == 0) {
+            return inventoryRepository.decreaseStock(skuId, quantity) == 1;
+        }
+        int start = pickBucket(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            if (inventoryBucketRepository.decreaseStock(skuId, (start + i) % bucketCount, quantity) == 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int pickBucket(int bucketCount) {
+        return ThreadLocalRandom.current().nextInt(bucketCount);
+    }
+}
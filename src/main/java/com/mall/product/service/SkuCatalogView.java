@@ -0,0 +1,35 @@
+package com.mall.product.service;
+
+import com.mall.product.dto.SkuSnapshot;
+import com.mall.product.repository.SkuRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * SKU ID 집합을 가격/표시 정보로 일괄 변환 (장바구니, 주문 공용)
+ * SKU 수와 무관하게 조회는 한 번이다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SkuCatalogView {
+
+    private final SkuRepository skuRepository;
+
+    /**
+     * @return SKU ID별 스냅샷 (존재하지 않는 SKU는 포함되지 않음)
+     */
+    public Map<Long, SkuSnapshot> findSnapshots(Collection<Long> skuIds) {
+        if (skuIds.isEmpty()) {
+            return Map.of();
+        }
+        return skuRepository.findSnapshots(skuIds).stream()
+                .collect(Collectors.toMap(SkuSnapshot::skuId, Function.identity()));
+    }
+}
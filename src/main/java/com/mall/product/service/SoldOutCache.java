@@ -0,0 +1,199 @@
+package com.mall.product.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 품절 캐시 (Redis + JVM 로컬 Near-cache)
+ * 품절 표시/해제는 Redis Pub/Sub으로 모든 노드의 로컬 캐시에 전파되어, 품절 SKU 요청은 네트워크 왕복 없이 거절된다.
+ * 메시지가 유실되더라도 로컬 항목은 짧은 TTL 후 만료되고, 재구독 시에는 로컬 캐시를 비운다.
+ * 품절이 아닌 SKU도 Redis에서 확인한 결과를 1초간 로컬에 보관해, 판매 중인 Hot SKU 요청마다 Redis를 왕복하지 않는다.
+ * 그 사이의 품절 표시는 Pub/Sub으로 즉시 반영되고, 메시지가 유실된 경우에도 최대 1초 뒤에는 Redis에서 다시 확인한다.
+ * 만료된 로컬 항목은 조회 시 제거하고, 다시 조회되지 않는 항목은 주기 작업이 정리한다. (저장 경로에서 전체 순회 없음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SoldOutCache {
+
+    private static final String SOLD_OUT_PREFIX = "SOLD_OUT:";
+    private static final String EVENT_TOPIC = "SOLD_OUT:EVENTS";
+    private static final long TTL_SECONDS = 10L;
+    private static final long MISS_TTL_MILLIS = 1000L;
+    // 판매 중 SKU 로컬 항목 수 상한 (가득 차면 다음 정리 전까지 보관하지 않음)
+    static final int MAX_LOCAL_MISSES = 10_000;
+
+    private final RedissonClient redissonClient;
+
+    // SKU ID -> 로컬 만료 시각 (System.nanoTime 기준)
+    private final Map<Long, Long> localExpiries = new ConcurrentHashMap<>();
+    // 품절이 아님을 확인한 SKU ID -> 로컬 만료 시각 (품절 항목이 항상 우선)
+    private final Map<Long, Long> localMisses = new ConcurrentHashMap<>();
+    private final List<Integer> listenerIds = new ArrayList<>();
+
+    @PostConstruct
+    void subscribe() {
+        RTopic topic = topic();
+        listenerIds.add(topic.addListener(String.class, (channel, message) -> onEvent(message)));
+        listenerIds.add(topic.addListener(new BaseStatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                // 구독이 끊긴 동안 표시/해제 이벤트를 놓쳤을 수 있으므로 로컬 캐시 초기화
+                localExpiries.clear();
+                localMisses.clear();
+            }
+        }));
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        topic().removeListener(listenerIds.toArray(Integer[]::new));
+    }
+
+    /**
+     * 다시 조회되지 않아 남아 있는 만료 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${mall.inventory.sold-out.prune-interval-ms:1000}")
+    public void pruneExpired() {
+        long now = System.nanoTime();
+        localExpiries.values().removeIf(expiresAt -> expiresAt - now <= 0);
+        localMisses.values().removeIf(expiresAt -> expiresAt - now <= 0);
+    }
+
+    public boolean isSoldOut(Long skuId) {
+        long now = System.nanoTime();
+        Long expiresAt = localExpiries.get(skuId);
+        if (expiresAt != null) {
+            if (expiresAt - now > 0) {
+                return true;
+            }
+            localExpiries.remove(skuId, expiresAt);
+        }
+        if (isLocalMiss(skuId, now)) {
+            return false;
+        }
+
+        // 로컬에 없으면 Redis 확인 (구독 이전에 표시된 품절 등), 남은 TTL만큼 로컬에 보관
+        long remainMillis = bucket(skuId).remainTimeToLive();
+        if (remainMillis == -2L) {
+            putMiss(skuId);
+            return false;
+        }
+        // -1: 만료 시간이 없는 키는 기본 TTL만큼만 로컬에 보관
+        long localTtlMillis = remainMillis > 0 ? remainMillis : TimeUnit.SECONDS.toMillis(TTL_SECONDS);
+        putLocal(skuId, TimeUnit.MILLISECONDS.toNanos(localTtlMillis));
+        return true;
+    }
+
+    /**
+     * @return 품절 표시된 SKU ID (로컬에서 확인되지 않은 SKU만 Redis MGET 1회로 확인)
+     */
+    public Set<Long> findSoldOut(Collection<Long> skuIds) {
+        long now = System.nanoTime();
+        Set<Long> soldOut = skuIds.stream()
+                .filter(skuId -> {
+                    Long expiresAt = localExpiries.get(skuId);
+                    return expiresAt != null && expiresAt - now > 0;
+                })
+                .collect(Collectors.toSet());
+        if (!soldOut.isEmpty()) {
+            return soldOut;
+        }
+
+        List<Long> unknown = skuIds.stream()
+                .filter(skuId -> !isLocalMiss(skuId, now))
+                .toList();
+        if (unknown.isEmpty()) {
+            return soldOut;
+        }
+
+        Map<String, Object> found = redissonClient.getBuckets(StringCodec.INSTANCE)
+                .get(unknown.stream().map(this::key).toArray(String[]::new));
+        Set<Long> result = found.keySet().stream()
+                .map(key -> Long.valueOf(key.substring(SOLD_OUT_PREFIX.length())))
+                .collect(Collectors.toSet());
+        unknown.stream()
+                .filter(skuId -> !result.contains(skuId))
+                .forEach(this::putMiss);
+        return result;
+    }
+
+    public void markAsSoldOut(Long skuId) {
+        bucket(skuId).set("TRUE", TTL_SECONDS, TimeUnit.SECONDS);
+        putLocal(skuId, TimeUnit.SECONDS.toNanos(TTL_SECONDS));
+        topic().publish("+" + skuId);
+    }
+
+    public void remove(Long skuId) {
+        bucket(skuId).delete();
+        localExpiries.remove(skuId);
+        topic().publish("-" + skuId);
+    }
+
+    private void onEvent(String message) {
+        try {
+            Long skuId = Long.valueOf(message.substring(1));
+            if (message.charAt(0) == '+') {
+                putLocal(skuId, TimeUnit.SECONDS.toNanos(TTL_SECONDS));
+            } else {
+                localExpiries.remove(skuId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed sold-out event: {}", message);
+        }
+    }
+
+    private boolean isLocalMiss(Long skuId, long now) {
+        Long expiresAt = localMisses.get(skuId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt - now > 0) {
+            return true;
+        }
+        localMisses.remove(skuId, expiresAt);
+        return false;
+    }
+
+    private void putMiss(Long skuId) {
+        if (localMisses.size() >= MAX_LOCAL_MISSES) {
+            return;
+        }
+        localMisses.put(skuId, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MISS_TTL_MILLIS));
+    }
+
+    private void putLocal(Long skuId, long ttlNanos) {
+        localExpiries.put(skuId, System.nanoTime() + ttlNanos);
+        localMisses.remove(skuId);
+    }
+
+    private RBucket<String> bucket(Long skuId) {
+        return redissonClient.getBucket(key(skuId), StringCodec.INSTANCE);
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(EVENT_TOPIC, StringCodec.INSTANCE);
+    }
+
+    private String key(Long skuId) {
+        return SOLD_OUT_PREFIX + skuId;
+    }
+}
@@ -0,0 +1,105 @@
+package com.mall.product.service;
+
+import com.mall.product.dto.StockLevel;
+import com.mall.product.repository.InventoryRepository;
+import com.mall.product.repository.RedisStockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DB 재고를 Redis 카운터로 적재 (기동 시 전체 적재 + 요청 시 단건 적재)
+ * 카운터는 DB 재고에 아직 반영되지 않은 증감분(STOCK_DELTA, 반영 중인 STOCK_DELTA:FLUSHING)을 더해 적재한다.
+ * DB 조회와 적재 사이에 드레인이 완료되면 DB 재고를 다시 읽는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "mall.inventory", name = "mode", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class StockCounterLoader {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final InventoryRepository inventoryRepository;
+    private final RedisStockRepository redisStockRepository;
+
+    /**
+     * 기동 시 카운터가 없는 SKU만 적재 (이미 운영 중인 카운터는 유지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadAll() {
+        Pageable pageable = PageRequest.of(0, LOAD_BATCH_SIZE);
+        int loaded = 0;
+        Slice<StockLevel> slice;
+        do {
+            slice = loadPage(pageable);
+            loaded += slice.getNumberOfElements();
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+
+        log.info("Stock counters loaded. SKUs: {}", loaded);
+    }
+
+    /**
+     * 카운터가 없을 때 DB 재고 + 미반영 증감분으로 적재
+     * @return 적재 대상 재고가 존재하면 true
+     */
+    @Transactional(readOnly = true)
+    public boolean load(Long skuId) {
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            Optional<StockLevel> level = inventoryRepository.findStockLevel(skuId);
+            if (level.isEmpty()) {
+                return false;
+            }
+            if (redisStockRepository.loadAllIfAbsent(List.of(level.get())) != RedisStockRepository.STALE_SNAPSHOT) {
+                return true;
+            }
+        }
+        throw staleSnapshot(skuId);
+    }
+
+    /**
+     * 카운터 강제 재적재 (DB 재고 + 미반영 증감분)
+     * 진행 중인 차감/증가를 덮어쓰지 않도록 증감분은 스크립트 안에서 읽지만, 카운터 유실 복구 용도로만 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public long reload(Long skuId) {
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            StockLevel level = inventoryRepository.findStockLevel(skuId)
+                    .orElseThrow(() -> new IllegalArgumentException("재고 정보가 존재하지 않습니다. SKU: " + skuId));
+            long stock = redisStockRepository.reload(level);
+            if (stock != RedisStockRepository.STALE_SNAPSHOT) {
+                log.info("Stock counter reloaded. SKU: {}, Stock: {}", skuId, stock);
+                return stock;
+            }
+        }
+        throw staleSnapshot(skuId);
+    }
+
+    private Slice<StockLevel> loadPage(Pageable pageable) {
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            Slice<StockLevel> slice = inventoryRepository.findStockLevels(pageable);
+            if (redisStockRepository.loadAllIfAbsent(slice.getContent()) != RedisStockRepository.STALE_SNAPSHOT) {
+                return slice;
+            }
+        }
+        throw staleSnapshot(pageable);
+    }
+
+    // 드레인 완료 직후에도 DB에서 반영 기록이 보이지 않으면 DB와 Redis가 어긋난 상태이므로 적재하지 않는다 (초과 판매 방지)
+    private IllegalStateException staleSnapshot(Object target) {
+        return new IllegalStateException("재고 카운터를 적재할 수 없습니다. DB 재고가 완료된 반영보다 오래되었습니다. 대상: " + target);
+    }
+}
@@ -0,0 +1,117 @@
+package com.mall.product.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 차감 Group-commit (mall.inventory.mode=group-commit)
+ * 같은 SKU에 대한 차감 요청을 짧은 윈도우 동안(또는 배치 크기까지) 모아 합계를 한 번의 조건부 UPDATE로 반영한다.
+ * 합계만큼 재고가 없으면 요청 순서대로 가능한 만큼만 차감하고, 각 요청의 Future에 개별 결과를 전달한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "mall.inventory", name = "mode", havingValue = "group-commit")
+@Slf4j
+public class StockDecrementCombiner {
+
+    private final InventoryStockWriter inventoryStockWriter;
+    private final SoldOutCache soldOutCache;
+    private final long windowMicros;
+    private final int maxBatchSize;
+
+    private final Map<Long, List<Request>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("stock-combiner-timer").daemon().factory());
+    private final ExecutorService flushers = Executors.newVirtualThreadPerTaskExecutor();
+
+    public StockDecrementCombiner(InventoryStockWriter inventoryStockWriter,
+                                  SoldOutCache soldOutCache,
+                                  @Value("${mall.inventory.group-commit.window-micros:2000}") long windowMicros,
+                                  @Value("${mall.inventory.group-commit.max-batch-size:32}") int maxBatchSize) {
+        this.inventoryStockWriter = inventoryStockWriter;
+        this.soldOutCache = soldOutCache;
+        this.windowMicros = windowMicros;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public CompletableFuture<Void> submit(Long skuId, int quantity) {
+        Request request = new Request(quantity, new CompletableFuture<>());
+        Enqueued enqueued = new Enqueued();
+
+        pending.compute(skuId, (id, batch) -> {
+            List<Request> current = batch != null ? batch : new ArrayList<>();
+            enqueued.opened = batch == null;
+            current.add(request);
+            if (current.size() >= maxBatchSize) {
+                enqueued.full = current;
+                return null;
+            }
+            return current;
+        });
+
+        if (enqueued.full != null) {
+            flushers.execute(() -> flush(skuId, enqueued.full));
+        } else if (enqueued.opened) {
+            timer.schedule(() -> flushers.execute(() -> flushPending(skuId)), windowMicros, TimeUnit.MICROSECONDS);
+        }
+        return request.future();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+        pending.keySet().forEach(this::flushPending);
+        flushers.close();
+    }
+
+    private void flushPending(Long skuId) {
+        List<Request> batch = pending.remove(skuId);
+        if (batch != null) {
+            flush(skuId, batch);
+        }
+    }
+
+    private void flush(Long skuId, List<Request> batch) {
+        try {
+            int total = batch.stream().mapToInt(Request::quantity).sum();
+            if (inventoryStockWriter.tryDecrease(skuId, total)) {
+                batch.forEach(request -> request.future().complete(null));
+                log.info("Stock decreased by group commit. SKU: {}, Requests: {}, Qty: -{}", skuId, batch.size(), total);
+                return;
+            }
+
+            // 합계만큼 재고가 없으면 요청 순서대로 가능한 만큼 차감
+            boolean[] results = inventoryStockWriter.decreaseInOrder(skuId,
+                    batch.stream().mapToInt(Request::quantity).toArray());
+            for (int i = 0; i < batch.size(); i++) {
+                if (results[i]) {
+                    batch.get(i).future().complete(null);
+                } else {
+                    batch.get(i).future().completeExceptionally(new InsufficientStockException(skuId));
+                }
+            }
+            soldOutCache.markAsSoldOut(skuId);
+        } catch (Exception e) {
+            batch.forEach(request -> request.future().completeExceptionally(e));
+        }
+    }
+
+    private record Request(int quantity, CompletableFuture<Void> future) {}
+
+    private static class Enqueued {
+        private boolean opened;
+        private List<Request> full;
+    }
+}
@@ -0,0 +1,70 @@
+package com.mall.product.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 별도 트랜잭션으로 먼저 커밋된 재고 복구분을 호출 트랜잭션이 롤백되면 다시 차감한다.
+ * 롤백된 주문은 상태가 그대로 남아 다음 주기에 다시 복구되므로, 되돌리지 않으면 재고가 두 번 복구된다.
+ * 복구와 차감은 프록시(구현체가 주입받은 자기 자신)로 호출해야 락/트랜잭션 설정이 적용된다.
+ */
+@Slf4j
+final class StockRestoreCompensation implements TransactionSynchronization {
+
+    private final InventoryService inventoryService;
+    private final TransactionOperations takeBackTransaction;
+    private final Map<Long, Integer> restored = new LinkedHashMap<>();
+
+    private StockRestoreCompensation(InventoryService inventoryService, TransactionOperations takeBackTransaction) {
+        this.inventoryService = inventoryService;
+        this.takeBackTransaction = takeBackTransaction;
+    }
+
+    /**
+     * SKU별로 복구하고, 호출 트랜잭션이 롤백되면 복구분을 takeBackTransaction 안에서 다시 차감한다.
+     * @param inventoryService    복구/차감에 사용할 InventoryService (DB 구현체는 프록시)
+     * @param takeBackTransaction 롤백 후(afterCompletion) 차감을 감쌀 트랜잭션
+     */
+    static void restoreEach(InventoryService inventoryService, TransactionOperations takeBackTransaction,
+                            Map<Long, Integer> quantities) {
+        StockRestoreCompensation compensation = new StockRestoreCompensation(inventoryService, takeBackTransaction);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(compensation);
+        }
+        quantities.forEach((skuId, quantity) -> {
+            inventoryService.increaseStock(skuId, quantity);
+            compensation.restored.merge(skuId, quantity, Integer::sum);
+        });
+    }
+
+    /**
+     * 완료된 트랜잭션에 참여할 수 없는 afterCompletion에서 사용할 새 트랜잭션
+     */
+    static TransactionOperations requiresNew(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager,
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        if (status != STATUS_ROLLED_BACK) {
+            return;
+        }
+        restored.forEach((skuId, quantity) -> {
+            try {
+                takeBackTransaction.executeWithoutResult(tx -> inventoryService.decreaseStock(skuId, quantity));
+            } catch (Exception e) {
+                log.error("Failed to take back restored stock after rollback. SKU: {}, Qty: {}", skuId, quantity, e);
+            }
+        });
+    }
+}
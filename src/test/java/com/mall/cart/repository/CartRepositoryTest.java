@@ -1,6 +1,8 @@
 package com.mall.cart.repository;
 
 import com.mall.cart.domain.CartItem;
+import com.mall.cart.dto.CartResponse;
+import com.mall.common.Money;
 import com.mall.product.domain.Product;
 import com.mall.product.domain.Sku;
 import com.mall.product.repository.ProductRepository;
@@ -69,4 +71,47 @@ class CartRepositoryTest {
         assertThat(found.getSkuId()).isEqualTo(sku.getId());
         assertThat(found.getQuantity()).isEqualTo(2);
     }
+
+    @Test
+    @DisplayName("회원 장바구니는 수량과 SKU 스냅샷 컬럼을 한 번에 조회해 응답으로 변환된다")
+    void findResponsesByUserId() {
+        // Given
+        Product product = Product.builder()
+                .name("Projection Product")
+                .basePrice(new BigDecimal("10000"))
+                .attributes(Map.of())
+                .build();
+
+        Sku sku = Sku.builder()
+                .skuCode("TEST-SKU-002")
+                .attributes(Map.of("color", "black"))
+                .additionalPrice(new BigDecimal("500"))
+                .build();
+        product.addSku(sku);
+        productRepository.save(product);
+
+        Long userId = 2L;
+        cartRepository.save(CartItem.builder()
+                .userId(userId)
+                .skuId(sku.getId())
+                .quantity(3)
+                .build());
+
+        em.flush();
+        em.clear();
+
+        // When
+        List<CartResponse> results = cartRepository.findResponsesByUserId(userId);
+
+        // Then
+        assertThat(results).hasSize(1);
+        CartResponse found = results.get(0);
+        assertThat(found.skuId()).isEqualTo(sku.getId());
+        assertThat(found.productName()).isEqualTo("Projection Product");
+        assertThat(found.skuCode()).isEqualTo("TEST-SKU-002");
+        assertThat(found.attributes()).containsEntry("color", "black");
+        assertThat(found.price()).isEqualTo(Money.of(new BigDecimal("10500")));
+        assertThat(found.quantity()).isEqualTo(3);
+        assertThat(found.subTotal()).isEqualTo(Money.of(new BigDecimal("31500")));
+    }
 }
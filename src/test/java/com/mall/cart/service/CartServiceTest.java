@@ -2,6 +2,8 @@ package com.mall.cart.service;
 
 import com.mall.cart.dto.CartResponse;
 import com.mall.cart.repository.CartRepository;
+import com.mall.cart.repository.GuestCartCodec;
+import com.mall.cart.repository.GuestCartRepository;
 import com.mall.product.domain.Product;
 import com.mall.product.domain.Sku;
 import com.mall.product.repository.ProductRepository;
@@ -75,6 +77,43 @@ class CartServiceTest {
         assertThat(userCart.get(0).skuId()).isEqualTo(testSku.getId());
 
         // Redis 비회원 장바구니가 비어있는지 확인
-        assertThat(redissonClient.getMap("temp_cart:" + guestToken).isEmpty()).isTrue();
+        assertThat(redissonClient.getMap(GuestCartRepository.key(guestToken)).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("회원 장바구니에 이미 있는 상품은 비회원 수량이 더해진다")
+    void mergeGuestCartAddsToExistingQuantity() {
+        // Given
+        String guestToken = UUID.randomUUID().toString();
+        Long userId = 101L;
+        cartService.addItem(userId, null, testSku.getId(), 1);
+        cartService.addItem(null, guestToken, testSku.getId(), 2);
+
+        // When
+        cartService.mergeGuestCart(userId, guestToken);
+
+        // Then
+        List<CartResponse> userCart = cartService.getCartItems(userId, null);
+        assertThat(userCart).hasSize(1);
+        assertThat(userCart.get(0).quantity()).isEqualTo(3);
+        assertThat(redissonClient.getMap(GuestCartRepository.key(guestToken)).isExists()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이전 형식(temp_cart)으로 저장된 비회원 장바구니는 조회 시 새 키로 옮겨진다")
+    void legacyGuestCartIsMigrated() {
+        // Given
+        String guestToken = UUID.randomUUID().toString();
+        redissonClient.<Long, Integer>getMap("temp_cart:" + guestToken).put(testSku.getId(), 4);
+
+        // When
+        List<CartResponse> guestCart = cartService.getCartItems(null, guestToken);
+
+        // Then
+        assertThat(guestCart).hasSize(1);
+        assertThat(guestCart.get(0).quantity()).isEqualTo(4);
+        assertThat(redissonClient.getMap("temp_cart:" + guestToken).isExists()).isFalse();
+        assertThat(redissonClient.getMap(GuestCartRepository.key(guestToken), GuestCartCodec.INSTANCE).get(testSku.getId()))
+                .isEqualTo(4);
     }
 }
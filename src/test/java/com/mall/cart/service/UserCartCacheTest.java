@@ -0,0 +1,56 @@
+package com.mall.cart.service;
+
+import com.mall.cart.dto.CartResponse;
+import com.mall.common.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserCartCacheTest {
+
+    @Autowired
+    private UserCartCache userCartCache;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = System.nanoTime();
+    }
+
+    @Test
+    @DisplayName("적재한 장바구니는 다음 조회에서 그대로 반환된다")
+    void lookupReturnsStoredCart() {
+        List<CartResponse> items = List.of(new CartResponse(1L, "Cache Test Product", "CACHE-001",
+                Map.of("color", "black"), Money.of(new BigDecimal("12500.50")), 2, Money.of(new BigDecimal("25001.00"))));
+
+        UserCartCache.Lookup miss = userCartCache.lookup(userId);
+        assertThat(miss.isHit()).isFalse();
+        userCartCache.putIfVersion(userId, miss, items);
+
+        UserCartCache.Lookup hit = userCartCache.lookup(userId);
+        assertThat(hit.isHit()).isTrue();
+        assertThat(hit.items()).isEqualTo(items);
+    }
+
+    @Test
+    @DisplayName("적재 도중 무효화되면 오래된 장바구니는 저장되지 않는다")
+    void staleLoadIsDiscarded() {
+        UserCartCache.Lookup miss = userCartCache.lookup(userId);
+
+        // 적재 중 다른 요청이 장바구니를 변경
+        userCartCache.evict(userId);
+        userCartCache.putIfVersion(userId, miss, List.of());
+
+        assertThat(userCartCache.lookup(userId).isHit()).isFalse();
+    }
+}
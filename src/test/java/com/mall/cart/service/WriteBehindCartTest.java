@@ -0,0 +1,168 @@
+package com.mall.cart.service;
+
+import com.mall.cart.domain.CartItem;
+import com.mall.cart.dto.CartResponse;
+import com.mall.cart.repository.CartRepository;
+import com.mall.cart.repository.CartWriteBehindRepository;
+import com.mall.cart.scheduler.CartWriteBehindFlusher;
+import com.mall.product.domain.Product;
+import com.mall.product.domain.Sku;
+import com.mall.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "mall.cart.write-behind.enabled=true",
+        "mall.cart.write-behind.flush-interval-ms=3600000"
+})
+class WriteBehindCartTest {
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartWriteBehindRepository cartWriteBehindRepository;
+
+    @Autowired
+    private CartItemWriter cartItemWriter;
+
+    @Autowired
+    private CartWriteBehindFlusher cartWriteBehindFlusher;
+
+    private Sku firstSku;
+    private Sku secondSku;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        long suffix = System.nanoTime();
+        Product product = Product.builder()
+                .name("Write-behind Test Product")
+                .basePrice(new BigDecimal("10000"))
+                .attributes(Map.of())
+                .build();
+        firstSku = Sku.builder()
+                .skuCode("WB-A-" + suffix)
+                .attributes(Map.of())
+                .additionalPrice(BigDecimal.ZERO)
+                .build();
+        secondSku = Sku.builder()
+                .skuCode("WB-B-" + suffix)
+                .attributes(Map.of())
+                .additionalPrice(new BigDecimal("500"))
+                .build();
+        product.addSku(firstSku);
+        product.addSku(secondSku);
+        productRepository.save(product);
+        userId = suffix;
+    }
+
+    @Test
+    @DisplayName("연속 변경은 Redis에서 합쳐지고 DB에는 플러시 시 마지막 상태만 반영된다")
+    void mutationsAreCoalescedUntilFlush() {
+        cartService.addItem(userId, null, firstSku.getId(), 1);
+        cartService.addItem(userId, null, firstSku.getId(), 2);
+        cartService.addItem(userId, null, secondSku.getId(), 1);
+        cartService.removeItem(userId, null, secondSku.getId());
+
+        // 아직 DB에는 반영되지 않았지만 조회에는 최신 상태가 보인다
+        assertThat(cartRepository.findByUserId(userId)).isEmpty();
+        List<CartResponse> pending = cartService.getCartItems(userId, null);
+        assertThat(pending).hasSize(1);
+        assertThat(pending.get(0).quantity()).isEqualTo(3);
+
+        cartService.flush(userId);
+
+        List<CartItem> rows = cartRepository.findByUserId(userId);
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getSkuId()).isEqualTo(firstSku.getId());
+        assertThat(rows.get(0).getQuantity()).isEqualTo(3);
+        assertThat(cartService.getCartItems(userId, null)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("플러시 후의 변경은 DB 장바구니를 기준으로 이어서 반영된다")
+    void mutationAfterFlushStartsFromDatabase() {
+        cartService.addItem(userId, null, firstSku.getId(), 2);
+        cartService.flush(userId);
+
+        cartService.updateQuantity(userId, null, firstSku.getId(), 5);
+        cartService.addItem(userId, null, secondSku.getId(), 1);
+        cartService.flush(userId);
+
+        Map<Long, Integer> quantities = cartRepository.findByUserId(userId).stream()
+                .collect(Collectors.toMap(CartItem::getSkuId, CartItem::getQuantity));
+        assertThat(quantities).containsExactlyInAnyOrderEntriesOf(Map.of(
+                firstSku.getId(), 5,
+                secondSku.getId(), 1));
+    }
+
+    @Test
+    @DisplayName("비우기 전에 읽은 미반영 장바구니는 DB에 반영되지 않는다")
+    void pendingReadBeforeClearIsNotApplied() {
+        // Given: Flusher가 미반영 장바구니를 읽은 직후 주문으로 장바구니가 비워짐
+        cartService.addItem(userId, null, firstSku.getId(), 2);
+        CartWriteBehindRepository.Pending pending = cartWriteBehindRepository.find(userId);
+        cartService.clearCart(userId);
+
+        // When
+        boolean applied = cartItemWriter.apply(userId, pending.quantities(),
+                () -> cartWriteBehindRepository.isCurrent(userId, pending.version()));
+
+        // Then
+        assertThat(applied).isFalse();
+        assertThat(cartRepository.findByUserId(userId)).isEmpty();
+        assertThat(cartService.getCartItems(userId, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("dirty 표시는 DB 반영이 끝난 뒤에 제거된다")
+    void dirtyMarkIsRemovedOnlyAfterFlush() {
+        // Given
+        cartService.addItem(userId, null, firstSku.getId(), 1);
+        assertThat(cartWriteBehindRepository.scanDirty(100)).toIterable().contains(String.valueOf(userId));
+
+        // When
+        cartWriteBehindFlusher.flush();
+
+        // Then
+        assertThat(cartWriteBehindRepository.scanDirty(100)).toIterable().doesNotContain(String.valueOf(userId));
+        assertThat(cartRepository.findByUserId(userId)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("한 주기에 배치 크기보다 많은 dirty 회원도 빠짐없이 DB에 반영된다")
+    void flushVisitsEveryDirtyUser() {
+        // Given: 배치 크기(100)를 넘는 회원의 변경
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            userIds.add(userId + 1 + i);
+        }
+        userIds.forEach(id -> cartService.addItem(id, null, firstSku.getId(), 1));
+
+        // When
+        cartWriteBehindFlusher.flush();
+
+        // Then
+        assertThat(cartWriteBehindRepository.scanDirty(100)).toIterable()
+                .doesNotContainAnyElementsOf(userIds.stream().map(String::valueOf).toList());
+        assertThat(userIds).allSatisfy(id -> assertThat(cartRepository.findByUserId(id)).hasSize(1));
+    }
+}
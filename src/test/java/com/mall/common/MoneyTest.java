@@ -0,0 +1,46 @@
+package com.mall.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("BigDecimal 금액을 최소 단위로 변환하고 같은 값으로 되돌린다")
+    void convertsToAndFromBigDecimal() {
+        Money money = Money.of(new BigDecimal("12500.5"));
+
+        assertThat(money.minorUnits()).isEqualTo(1_250_050L);
+        assertThat(money.toBigDecimal()).isEqualTo(new BigDecimal("12500.50"));
+    }
+
+    @Test
+    @DisplayName("합계와 수량 곱은 BigDecimal 계산과 같은 결과를 낸다")
+    void arithmeticMatchesBigDecimal() {
+        Money price = Money.of(new BigDecimal("19900")).plus(Money.of(new BigDecimal("2500.25")));
+
+        assertThat(price.times(3).toBigDecimal())
+                .isEqualByComparingTo(new BigDecimal("22400.25").multiply(BigDecimal.valueOf(3)));
+    }
+
+    @Test
+    @DisplayName("소수점 자리수를 넘는 금액은 거부한다")
+    void rejectsExcessScale() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("0.001")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 연산은 예외를 던진다")
+    void detectsOverflow() {
+        Money large = new Money(Long.MAX_VALUE / 2 + 1);
+
+        assertThatThrownBy(() -> large.times(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> large.plus(large)).isInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,54 @@
+package com.mall.config.cluster;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ClusterMembershipTest {
+
+    @Autowired
+    private ClusterMembership clusterMembership;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    private final String livePeer = UUID.randomUUID().toString();
+    private final String stalePeer = UUID.randomUUID().toString();
+
+    @AfterEach
+    void tearDown() {
+        members().remove(livePeer);
+        members().remove(stalePeer);
+    }
+
+    @Test
+    @DisplayName("살아 있는 노드만 파티션 수에 포함되고 각 노드는 서로 다른 파티션 번호를 받는다")
+    void partitionCountsOnlyLiveNodes() {
+        ClusterMembership.Partition before = clusterMembership.partition();
+        assertThat(before.index()).isBetween(0, before.count() - 1);
+
+        // When: 살아 있는 노드 하나와 Heartbeat가 끊긴 노드 하나를 추가
+        members().add(System.currentTimeMillis(), livePeer);
+        members().add(System.currentTimeMillis() - 60_000, stalePeer);
+
+        // Then
+        ClusterMembership.Partition after = clusterMembership.partition();
+        assertThat(after.count()).isEqualTo(before.count() + 1);
+        assertThat(after.index()).isBetween(0, after.count() - 1);
+        assertThat(members().contains(stalePeer)).isFalse();
+    }
+
+    private RScoredSortedSet<String> members() {
+        return redissonClient.getScoredSortedSet("cluster:nodes", StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,70 @@
+package com.mall.config.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentionTrackerTest {
+
+    private final ContentionTracker contentionTracker = new ContentionTracker(0.2);
+
+    @Test
+    @DisplayName("충돌이 없는 키는 락 없이 실행되고 상태가 남지 않는다")
+    void uncontendedKeyStaysOptimistic() {
+        contentionTracker.enter(List.of("LOCK:1")).exit(false);
+
+        assertThat(contentionTracker.shouldLock(List.of("LOCK:1"))).isFalse();
+        assertThat(contentionTracker.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("충돌이 반복되면 락 모드로 전환되고, 겹치지 않는 실행이 쌓이면 다시 돌아온다")
+    void switchesToLockingAndBack() {
+        List<String> keys = List.of("LOCK:2");
+        for (int i = 0; i < 5; i++) {
+            contentionTracker.enter(keys).exit(true);
+        }
+        assertThat(contentionTracker.shouldLock(keys)).isTrue();
+
+        for (int i = 0; i < 50; i++) {
+            contentionTracker.enter(keys).exit(false);
+        }
+        assertThat(contentionTracker.shouldLock(keys)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 키의 실행이 겹치면 충돌로 기록된다")
+    void overlappingExecutionsCountAsConflict() {
+        List<String> keys = List.of("LOCK:3");
+        for (int i = 0; i < 5; i++) {
+            ContentionTracker.Execution first = contentionTracker.enter(keys);
+            ContentionTracker.Execution second = contentionTracker.enter(keys);
+            second.exit(false);
+            first.exit(false);
+        }
+
+        assertThat(contentionTracker.shouldLock(keys)).isTrue();
+    }
+
+    @Test
+    @DisplayName("락 모드에서도 대기열이 계속 생기면 락 모드를 유지한다")
+    void sustainedLockedContentionKeepsLocking() {
+        List<String> keys = List.of("LOCK:4");
+        for (int i = 0; i < 5; i++) {
+            contentionTracker.enter(keys).exit(true);
+        }
+
+        // 락을 점유한 호출과 대기하는 호출이 계속 겹침
+        for (int i = 0; i < 50; i++) {
+            ContentionTracker.Execution holder = contentionTracker.enter(keys);
+            ContentionTracker.Execution waiter = contentionTracker.enter(keys);
+            holder.exit(false);
+            waiter.exit(false);
+        }
+
+        assertThat(contentionTracker.shouldLock(keys)).isTrue();
+    }
+}
@@ -0,0 +1,34 @@
+package com.mall.config.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomSpringELParserTest {
+
+    private final String[] parameterNames = {"skuId", "quantity"};
+
+    @Test
+    @DisplayName("캐시된 리졸버는 매 호출의 인자로 키를 계산한다")
+    void compiledResolverUsesCurrentArguments() {
+        CustomSpringELParser.KeyResolver simple = CustomSpringELParser.compile(parameterNames, "#skuId");
+        CustomSpringELParser.KeyResolver expression = CustomSpringELParser.compile(parameterNames, "'SKU:' + #skuId");
+
+        for (long skuId = 1; skuId <= 3; skuId++) {
+            Object[] args = {skuId, 1};
+            assertThat(simple.resolve(args)).isEqualTo(skuId);
+            assertThat(expression.resolve(args)).isEqualTo("SKU:" + skuId);
+        }
+    }
+
+    @Test
+    @DisplayName("캐시된 리졸버는 기존 파서와 같은 키를 만든다")
+    void compiledResolverMatchesDynamicValue() {
+        Object[] args = {42L, 3};
+        String key = "#skuId + '-' + #quantity";
+
+        assertThat(CustomSpringELParser.compile(parameterNames, key).resolve(args))
+                .isEqualTo(CustomSpringELParser.getDynamicValue(parameterNames, args, key));
+    }
+}
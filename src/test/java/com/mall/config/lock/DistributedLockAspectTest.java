@@ -0,0 +1,65 @@
+package com.mall.config.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DistributedLockAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("OPTIMISTIC 모드는 동시성 충돌 시 maxRetries 안에서 재시도해 성공한다")
+    void optimisticRetriesUntilSuccess() {
+        ConflictingTarget target = proxy(new ConflictingTarget(2));
+
+        assertThat(target.update(1L)).isEqualTo(3);
+        assertThat(meterRegistry.get("lock.optimistic.conflict").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("OPTIMISTIC 모드는 maxRetries를 넘으면 충돌 예외를 그대로 던진다")
+    void optimisticGivesUpAfterMaxRetries() {
+        ConflictingTarget raw = new ConflictingTarget(Integer.MAX_VALUE);
+        ConflictingTarget target = proxy(raw);
+
+        assertThatThrownBy(() -> target.update(1L)).isInstanceOf(ConcurrencyFailureException.class);
+        // 최초 실행 + 재시도 3회
+        assertThat(raw.calls.get()).isEqualTo(4);
+    }
+
+    private ConflictingTarget proxy(ConflictingTarget target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new DistributedLockAspect(new LocalLockProvider(16), new AopForTransaction(),
+                new LockMetrics(meterRegistry), new ContentionTracker(0.2)));
+        return factory.getProxy();
+    }
+
+    static class ConflictingTarget {
+
+        private final int failures;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        ConflictingTarget(int failures) {
+            this.failures = failures;
+        }
+
+        @DistributedLock(key = "#id", mode = LockMode.OPTIMISTIC, maxRetries = 3)
+        public int update(Long id) {
+            int call = calls.incrementAndGet();
+            if (call <= failures) {
+                throw new OptimisticLockingFailureException("version mismatch: " + id);
+            }
+            return call;
+        }
+    }
+}
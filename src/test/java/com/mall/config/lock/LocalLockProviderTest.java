@@ -0,0 +1,83 @@
+package com.mall.config.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalLockProviderTest {
+
+    private final LocalLockProvider lockProvider = new LocalLockProvider(1024);
+
+    @Test
+    @DisplayName("같은 키는 대기 시간 안에 해제되지 않으면 획득에 실패한다")
+    void sameKeyIsExclusive() throws Exception {
+        LockProvider.LockHandle handle = lockProvider.tryLock(List.of("LOCK:1"), 0, TimeUnit.SECONDS.toNanos(3));
+        assertThat(handle).isNotNull();
+
+        LockProvider.LockHandle contended = CompletableFuture
+                .supplyAsync(() -> tryLock(List.of("LOCK:1"), TimeUnit.MILLISECONDS.toNanos(50)))
+                .get();
+        assertThat(contended).isNull();
+
+        assertThat(handle.unlock()).isTrue();
+        assertThat(tryLock(List.of("LOCK:1"), 0)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("leaseTime이 지나면 자동으로 해제되고, 이전 소유자의 해제는 false를 반환한다")
+    void leaseExpires() throws Exception {
+        LockProvider.LockHandle expired = lockProvider.tryLock(List.of("LOCK:2"), 0, TimeUnit.MILLISECONDS.toNanos(50));
+
+        LockProvider.LockHandle next = CompletableFuture
+                .supplyAsync(() -> tryLock(List.of("LOCK:2"), TimeUnit.SECONDS.toNanos(1)))
+                .get();
+
+        assertThat(next).isNotNull();
+        assertThat(expired.unlock()).isFalse();
+        assertThat(next.unlock()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 스트라이프에 매핑되는 여러 키도 한 번에 잠글 수 있다")
+    void multipleKeysOnSameStripe() throws Exception {
+        LocalLockProvider singleStripe = new LocalLockProvider(1);
+
+        LockProvider.LockHandle handle = singleStripe.tryLock(List.of("LOCK:1", "LOCK:2"), 0, TimeUnit.SECONDS.toNanos(3));
+
+        assertThat(handle).isNotNull();
+        assertThat(handle.unlock()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 스레드는 이미 잡은 스트라이프를 다시 잠글 수 있고, 모두 해제해야 다른 스레드가 획득한다")
+    void nestedLockIsReentrant() throws Exception {
+        LocalLockProvider singleStripe = new LocalLockProvider(1);
+
+        LockProvider.LockHandle outer = singleStripe.tryLock(List.of("LOCK:1"), 0, TimeUnit.SECONDS.toNanos(3));
+        LockProvider.LockHandle inner = singleStripe.tryLock(List.of("LOCK:2"), 0, TimeUnit.SECONDS.toNanos(3));
+        assertThat(inner).isNotNull();
+
+        assertThat(inner.unlock()).isTrue();
+        assertThat(CompletableFuture.supplyAsync(() -> tryLock(singleStripe, List.of("LOCK:3"), 0)).get()).isNull();
+
+        assertThat(outer.unlock()).isTrue();
+        assertThat(CompletableFuture.supplyAsync(() -> tryLock(singleStripe, List.of("LOCK:3"), 0)).get()).isNotNull();
+    }
+
+    private LockProvider.LockHandle tryLock(List<String> keys, long waitNanos) {
+        return tryLock(lockProvider, keys, waitNanos);
+    }
+
+    private LockProvider.LockHandle tryLock(LocalLockProvider provider, List<String> keys, long waitNanos) {
+        try {
+            return provider.tryLock(keys, waitNanos, TimeUnit.SECONDS.toNanos(3));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
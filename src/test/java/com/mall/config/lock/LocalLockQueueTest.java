@@ -0,0 +1,55 @@
+package com.mall.config.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalLockQueueTest {
+
+    private final LocalLockQueue localLockQueue = new LocalLockQueue();
+
+    @Test
+    @DisplayName("같은 키는 한 스레드만 통과하고, 다른 키는 서로 막지 않는다")
+    void onlyOneThreadPerKey() throws Exception {
+        LocalLockQueue.Permit permit = localLockQueue.tryAcquire("LOCK:1", 1, TimeUnit.SECONDS);
+        assertThat(permit).isNotNull();
+
+        LocalLockQueue.Permit sameKey = CompletableFuture
+                .supplyAsync(() -> tryAcquire("LOCK:1", 50))
+                .get();
+        LocalLockQueue.Permit otherKey = CompletableFuture
+                .supplyAsync(() -> tryAcquire("LOCK:2", 50))
+                .get();
+
+        assertThat(sameKey).isNull();
+        assertThat(otherKey).isNotNull();
+
+        permit.release();
+        otherKey.release();
+    }
+
+    @Test
+    @DisplayName("대기자가 모두 빠져나가면 키 엔트리가 제거된다")
+    void removesEntryWhenIdle() throws Exception {
+        LocalLockQueue.Permit permit = localLockQueue.tryAcquire("LOCK:1", 1, TimeUnit.SECONDS);
+        CompletableFuture<LocalLockQueue.Permit> waiter = CompletableFuture
+                .supplyAsync(() -> tryAcquire("LOCK:1", 1000));
+
+        permit.release();
+        waiter.get().release();
+
+        assertThat(localLockQueue.size()).isZero();
+    }
+
+    private LocalLockQueue.Permit tryAcquire(String key, long timeoutMillis) {
+        try {
+            return localLockQueue.tryAcquire(key, timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.mall.config.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LockMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LockMetrics lockMetrics = new LockMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("지표는 원본 키가 아닌 메서드와 키 표현식으로 태깅된다")
+    void metersAreTaggedByMethodAndKeyPattern() {
+        LockMetrics.Meters meters = lockMetrics.meters("InventoryServiceImpl.decrease", "#skuId");
+        meters.recordAcquired(TimeUnit.MILLISECONDS.toNanos(5));
+        meters.recordTimeout(TimeUnit.SECONDS.toNanos(5));
+        lockMetrics.meters("InventoryServiceImpl.increase", "#skuId").recordAcquired(TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertThat(meterRegistry.get("lock.wait").tag("method", "InventoryServiceImpl.decrease").tag("key", "#skuId")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("lock.acquired").tag("method", "InventoryServiceImpl.decrease").tag("key", "#skuId")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.timeout").tag("method", "InventoryServiceImpl.decrease").tag("key", "#skuId")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.wait").tag("method", "InventoryServiceImpl.increase")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Hot Key는 누적 대기 시간이 긴 순서로 조회된다")
+    void topKeysOrderedByTotalWait() {
+        lockMetrics.recordWait(List.of("LOCK:1"), TimeUnit.MILLISECONDS.toNanos(1), true);
+        lockMetrics.recordWait(List.of("LOCK:2"), TimeUnit.MILLISECONDS.toNanos(30), true);
+        lockMetrics.recordWait(List.of("LOCK:2"), TimeUnit.MILLISECONDS.toNanos(50), false);
+        lockMetrics.recordWait(List.of("LOCK:3"), TimeUnit.MILLISECONDS.toNanos(10), true);
+
+        List<LockMetrics.HotKey> top = lockMetrics.topKeys(2);
+
+        assertThat(top).extracting(LockMetrics.HotKey::key).containsExactly("LOCK:2", "LOCK:3");
+        assertThat(top.get(0).attempts()).isEqualTo(2);
+        assertThat(top.get(0).timeouts()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,172 @@
+package com.mall.order.outbox;
+
+import com.mall.order.domain.OrderEventType;
+import com.mall.order.domain.OrderStatus;
+import com.mall.order.domain.OutboxEvent;
+import com.mall.order.repository.OutboxEventRepository;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "mall.outbox.relay.enabled=true",
+        // 스케줄러 대신 테스트에서 직접 relayBatch() 호출
+        "mall.outbox.relay.poll-interval-ms=3600000",
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}"
+})
+@EmbeddedKafka(partitions = 1, topics = "order-events")
+class OutboxRelayTest {
+
+    @Autowired
+    private OrderOutbox orderOutbox;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Test
+    @DisplayName("아웃박스 이벤트는 배치로 Kafka에 발행되고 발행 완료로 표시된다")
+    void relayPublishesAndMarksSent() {
+        // Given
+        long baseOrderId = System.nanoTime();
+        List<Long> orderIds = List.of(baseOrderId, baseOrderId + 1, baseOrderId + 2);
+        transactionTemplate.executeWithoutResult(status ->
+                orderOutbox.appendAll(orderIds, OrderEventType.ORDER_CANCELLED, OrderStatus.CANCELLED));
+
+        // When
+        int published = 0;
+        int batch;
+        while ((batch = outboxRelay.relayBatch()) > 0) {
+            published += batch;
+        }
+
+        // Then
+        assertThat(published).isGreaterThanOrEqualTo(orderIds.size());
+        assertThat(outboxEventRepository.findAll().stream()
+                .filter(event -> orderIds.contains(event.getAggregateId())))
+                .hasSize(orderIds.size())
+                .allSatisfy(event -> assertThat(event.getSentAt()).isNotNull());
+
+        List<ConsumerRecord<String, String>> records = consumeAll();
+        assertThat(records)
+                .filteredOn(record -> orderIds.contains(Long.valueOf(record.key())))
+                .hasSize(orderIds.size())
+                .allSatisfy(record -> {
+                    assertThat(new String(record.headers().lastHeader(OutboxRelay.EVENT_TYPE_HEADER).value(),
+                            StandardCharsets.UTF_8)).isEqualTo("ORDER_CANCELLED");
+                    assertThat(record.value()).contains("\"status\":\"CANCELLED\"");
+                });
+    }
+
+    @Test
+    @DisplayName("미발행 이벤트가 없으면 아무것도 발행하지 않는다")
+    void relayWithNothingPendingPublishesNothing() {
+        while (outboxRelay.relayBatch() > 0) {
+            // 앞선 테스트가 남긴 이벤트 정리
+        }
+        assertThat(outboxRelay.relayBatch()).isZero();
+        assertThat(outboxEventRepository.findAll()).map(OutboxEvent::getSentAt).doesNotContainNull();
+    }
+
+    @Test
+    @DisplayName("같은 주문의 다음 이벤트는 앞선 이벤트가 발행된 뒤에야 발행 대상이 된다")
+    void laterEventWaitsForEarlierEventOfSameOrder() {
+        // Given
+        while (outboxRelay.relayBatch() > 0) {
+            // 앞선 테스트가 남긴 이벤트 정리
+        }
+        Long orderId = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            orderOutbox.appendAll(List.of(orderId), OrderEventType.ORDER_CREATED, OrderStatus.PENDING_PAYMENT);
+            orderOutbox.appendAll(List.of(orderId), OrderEventType.ORDER_PAID, OrderStatus.PAID);
+        });
+
+        // When
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+
+        // Then
+        assertThat(eventsOf(orderId))
+                .filteredOn(event -> event.getSentAt() != null)
+                .extracting(OutboxEvent::getEventType)
+                .containsExactly(OrderEventType.ORDER_CREATED);
+
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+        assertThat(eventsOf(orderId)).map(OutboxEvent::getSentAt).doesNotContainNull();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 발행 완료 이벤트는 정리된다")
+    void purgeDeletesExpiredSentEvents() {
+        // Given
+        Long orderId = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status ->
+                orderOutbox.appendAll(List.of(orderId), OrderEventType.ORDER_CANCELLED, OrderStatus.CANCELLED));
+        List<Long> eventIds = eventsOf(orderId).stream().map(OutboxEvent::getId).toList();
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.markSent(eventIds, LocalDateTime.now().minusDays(30)));
+
+        // When
+        while (outboxRelay.purgeSent() > 0) {
+            // 보관 기간이 지난 이벤트를 모두 정리
+        }
+
+        // Then
+        assertThat(eventsOf(orderId)).isEmpty();
+    }
+
+    private List<OutboxEvent> eventsOf(Long orderId) {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getAggregateId().equals(orderId))
+                .toList();
+    }
+
+    private List<ConsumerRecord<String, String>> consumeAll() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, embeddedKafka.getBrokersAsString());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "outbox-test-" + UUID.randomUUID());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+
+        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(props)) {
+            consumer.subscribe(List.of("order-events"));
+            List<ConsumerRecord<String, String>> records = new ArrayList<>();
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (System.currentTimeMillis() < deadline) {
+                consumer.poll(Duration.ofMillis(500)).forEach(records::add);
+                if (!records.isEmpty() && consumer.assignment().stream()
+                        .allMatch(partition -> consumer.position(partition) >= consumer.endOffsets(List.of(partition)).get(partition))) {
+                    break;
+                }
+            }
+            return records;
+        }
+    }
+}
@@ -3,14 +3,19 @@ package com.mall.order.repository;
 import com.mall.order.domain.Order;
 import com.mall.order.domain.OrderItem;
 import com.mall.order.domain.OrderStatus;
+import com.mall.order.dto.IdRange;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -62,4 +67,60 @@ class OrderRepositoryTest {
         assertThat(found.getOrderItems()).hasSize(2);
         assertThat(found.getTotalAmount()).isEqualByComparingTo("30000");
     }
+
+    @Test
+    @DisplayName("주문 항목 ID는 INSERT 없이 시퀀스 할당 구간에서 미리 부여된다")
+    void orderItemIdsArePreallocatedFromSequence() {
+        // Given
+        Order order = Order.builder()
+                .userId(1L)
+                .status(OrderStatus.PENDING_PAYMENT)
+                .totalAmount(new BigDecimal("30000"))
+                .build();
+        for (int i = 0; i < 3; i++) {
+            order.addOrderItem(OrderItem.builder()
+                    .skuId((long) i + 1)
+                    .skuName("Item " + i)
+                    .price(new BigDecimal("10000"))
+                    .quantity(1)
+                    .build());
+        }
+
+        // When: flush 전
+        orderRepository.save(order);
+
+        // Then: 같은 할당 구간에서 연속된 ID
+        assertThat(order.getId()).isNotNull();
+        assertThat(order.getOrderItems())
+                .extracting(OrderItem::getId)
+                .doesNotContainNull()
+                .isSorted()
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("만료 점검은 결제 대기 주문의 ID 구간을 나눈 범위 안에서만 조회한다")
+    void findExpiredIdsWithinIdRange() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            ids.add(orderRepository.save(Order.builder()
+                    .userId(1L)
+                    .status(OrderStatus.PENDING_PAYMENT)
+                    .totalAmount(new BigDecimal("10000"))
+                    .build()).getId());
+        }
+        em.flush();
+        LocalDateTime before = LocalDateTime.now().plusMinutes(1);
+
+        // When
+        IdRange range = orderRepository.findIdRangeByStatus(OrderStatus.PENDING_PAYMENT);
+        List<Long> firstHalf = orderRepository.findIdsByStatusAndOrderDateBefore(
+                OrderStatus.PENDING_PAYMENT, before, range.minId() - 1, ids.get(1), Limit.of(10));
+
+        // Then
+        assertThat(range.minId()).isLessThanOrEqualTo(ids.get(0));
+        assertThat(range.maxId()).isGreaterThanOrEqualTo(ids.get(3));
+        assertThat(firstHalf).contains(ids.get(0), ids.get(1)).doesNotContain(ids.get(2), ids.get(3));
+    }
 }
@@ -0,0 +1,171 @@
+package com.mall.order.service;
+
+import com.mall.cart.service.CartService;
+import com.mall.config.lock.LockProvider;
+import com.mall.order.domain.OrderStatus;
+import com.mall.order.dto.OrderTicket;
+import com.mall.order.repository.OrderRepository;
+import com.mall.product.domain.Inventory;
+import com.mall.product.domain.Product;
+import com.mall.product.domain.Sku;
+import com.mall.product.repository.InventoryRepository;
+import com.mall.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "mall.order.intake.mode=async")
+class AsyncOrderIntakeTest {
+
+    @Autowired
+    private OrderIntake orderIntake;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private LockProvider lockProvider;
+
+    private Sku testSku;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.builder()
+                .name("Async Order Test Product")
+                .basePrice(new BigDecimal("10000"))
+                .attributes(Map.of())
+                .build();
+        testSku = Sku.builder()
+                .skuCode("ASYNC-ORDER-" + System.nanoTime())
+                .attributes(Map.of())
+                .additionalPrice(BigDecimal.ZERO)
+                .build();
+        product.addSku(testSku);
+        productRepository.save(product);
+
+        inventoryRepository.save(Inventory.builder()
+                .sku(testSku)
+                .stockQuantity(3)
+                .build());
+    }
+
+    @Test
+    @DisplayName("접수된 주문은 티켓으로 즉시 반환되고, 워커 처리 후 티켓에 결과가 기록된다")
+    void ordersAreProcessedAsynchronously() throws InterruptedException {
+        // Given: 재고 3개에 1개씩 주문하는 회원 3명
+        long baseUserId = System.nanoTime();
+        List<OrderTicket> tickets = new ArrayList<>();
+        for (long userId = baseUserId; userId < baseUserId + 3; userId++) {
+            cartService.addItem(userId, null, testSku.getId(), 1);
+        }
+
+        // When
+        for (long userId = baseUserId; userId < baseUserId + 3; userId++) {
+            OrderTicket ticket = orderIntake.submit(userId);
+            assertThat(ticket.status()).isEqualTo(OrderTicket.Status.PENDING);
+            tickets.add(ticket);
+        }
+
+        // Then
+        List<OrderTicket> results = new ArrayList<>();
+        for (OrderTicket ticket : tickets) {
+            results.add(awaitResult(ticket.ticketId()));
+        }
+        assertThat(results).extracting(OrderTicket::status).containsOnly(OrderTicket.Status.COMPLETED);
+        for (OrderTicket result : results) {
+            assertThat(orderRepository.findById(result.orderId()).orElseThrow().getStatus())
+                    .isEqualTo(OrderStatus.PENDING_PAYMENT);
+        }
+        assertThat(inventoryRepository.findBySkuId(testSku.getId()).orElseThrow().getStockQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("재고가 부족한 주문은 티켓에 실패로 기록된다")
+    void insufficientStockIsReportedOnTicket() throws InterruptedException {
+        Long userId = System.nanoTime();
+        cartService.addItem(userId, null, testSku.getId(), 5);
+
+        OrderTicket ticket = orderIntake.submit(userId);
+
+        assertThat(awaitResult(ticket.ticketId()).status()).isEqualTo(OrderTicket.Status.FAILED);
+    }
+
+    @Test
+    @DisplayName("같은 회원이 연달아 두 번 접수해도 하나의 장바구니로는 주문이 하나만 생성된다")
+    void duplicateSubmissionCreatesSingleOrder() throws InterruptedException {
+        // Given
+        Long userId = System.nanoTime();
+        cartService.addItem(userId, null, testSku.getId(), 1);
+
+        // When
+        OrderTicket first = orderIntake.submit(userId);
+        OrderTicket second = orderIntake.submit(userId);
+
+        // Then
+        List<OrderTicket> results = List.of(awaitResult(first.ticketId()), awaitResult(second.ticketId()));
+        assertThat(results).extracting(OrderTicket::status)
+                .containsExactlyInAnyOrder(OrderTicket.Status.COMPLETED, OrderTicket.Status.FAILED);
+        assertThat(inventoryRepository.findBySkuId(testSku.getId()).orElseThrow().getStockQuantity()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 파티션에서 같은 회원의 주문이 처리 중이면 사용자 락을 잡지 못해 실패로 기록된다")
+    void concurrentOrderOfSameUserIsRejected() throws InterruptedException {
+        // Given: 다른 워커가 같은 회원의 주문을 처리 중
+        Long userId = System.nanoTime();
+        cartService.addItem(userId, null, testSku.getId(), 1);
+        LockProvider.LockHandle inFlight = lockProvider.tryLock(List.of("LOCK:ORDER_USER:" + userId),
+                0, TimeUnit.SECONDS.toNanos(30));
+        assertThat(inFlight).isNotNull();
+
+        // When
+        OrderTicket result;
+        try {
+            result = awaitResult(orderIntake.submit(userId).ticketId());
+        } finally {
+            inFlight.unlock();
+        }
+
+        // Then
+        assertThat(result.status()).isEqualTo(OrderTicket.Status.FAILED);
+        assertThat(inventoryRepository.findBySkuId(testSku.getId()).orElseThrow().getStockQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("빈 장바구니는 대기열에 넣지 않고 즉시 거부한다")
+    void emptyCartIsRejectedImmediately() {
+        assertThatThrownBy(() -> orderIntake.submit(System.nanoTime()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private OrderTicket awaitResult(String ticketId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            OrderTicket ticket = orderIntake.findTicket(ticketId).orElseThrow();
+            if (ticket.status() != OrderTicket.Status.PENDING) {
+                return ticket;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Ticket was not processed in time: " + ticketId);
+    }
+}
@@ -0,0 +1,120 @@
+package com.mall.order.service;
+
+import com.mall.cart.repository.CartRepository;
+import com.mall.cart.service.CartService;
+import com.mall.order.domain.OrderStatus;
+import com.mall.order.repository.OrderRepository;
+import com.mall.product.domain.Inventory;
+import com.mall.product.domain.Product;
+import com.mall.product.domain.Sku;
+import com.mall.product.repository.InventoryRepository;
+import com.mall.product.repository.ProductRepository;
+import com.mall.product.repository.SkuRepository;
+import com.mall.product.repository.StockReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "mall.inventory.mode=ledger")
+class LedgerOrderServiceTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SkuRepository skuRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    private Sku testSku;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.builder()
+                .name("Ledger Order Test Product")
+                .basePrice(new BigDecimal("10000"))
+                .attributes(Map.of())
+                .build();
+
+        testSku = Sku.builder()
+                .skuCode("LEDGER-ORDER-" + System.nanoTime())
+                .attributes(Map.of())
+                .additionalPrice(BigDecimal.ZERO)
+                .build();
+        product.addSku(testSku);
+        productRepository.save(product);
+
+        inventoryRepository.save(Inventory.builder()
+                .sku(testSku)
+                .stockQuantity(10)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockReservationRepository.deleteAll();
+        orderRepository.deleteAll();
+        inventoryRepository.deleteAll();
+        cartRepository.deleteAll();
+        skuRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("결제 완료 시 선점 확정과 함께 주문 상태가 PAID로 저장된다")
+    void completePaymentPersistsPaidStatus() {
+        // Given
+        Long userId = 1L;
+        cartService.addItem(userId, null, testSku.getId(), 2);
+        Long orderId = orderService.createOrder(userId);
+
+        // When
+        orderService.completePayment(orderId);
+
+        // Then
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(inventoryRepository.findBySkuId(testSku.getId()).orElseThrow().getStockQuantity()).isEqualTo(8);
+        assertThat(stockReservationRepository.findByOrderId(orderId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결제 완료된 주문을 취소하면 확정 시 차감된 재고가 복구된다")
+    void cancelPaidOrderRestoresConfirmedStock() {
+        // Given
+        Long userId = 1L;
+        cartService.addItem(userId, null, testSku.getId(), 3);
+        Long orderId = orderService.createOrder(userId);
+        orderService.completePayment(orderId);
+
+        // When
+        orderService.cancelOrder(orderId);
+
+        // Then
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(inventoryRepository.findBySkuId(testSku.getId()).orElseThrow().getStockQuantity()).isEqualTo(10);
+    }
+}
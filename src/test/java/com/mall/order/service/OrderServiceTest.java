@@ -5,10 +5,12 @@ import com.mall.cart.service.CartService;
 import com.mall.order.domain.Order;
 import com.mall.order.domain.OrderStatus;
 import com.mall.order.repository.OrderRepository;
+import com.mall.order.repository.OrderTimeoutQueue;
 import com.mall.product.domain.Inventory;
 import com.mall.product.domain.Product;
 import com.mall.product.domain.Sku;
 import com.mall.product.repository.InventoryRepository;
+import com.mall.product.service.InventoryService;
 import com.mall.product.repository.ProductRepository;
 import com.mall.product.repository.SkuRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -17,9 +19,19 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -48,6 +60,15 @@ class OrderServiceTest {
     @Autowired
     private CartRepository cartRepository;
 
+    @Autowired
+    private OrderTimeoutQueue orderTimeoutQueue;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private Sku testSku;
 
     @BeforeEach
@@ -136,4 +157,187 @@ class OrderServiceTest {
         Inventory inventoryAfterCancel = inventoryRepository.findBySkuId(testSku.getId()).orElseThrow();
         assertThat(inventoryAfterCancel.getStockQuantity()).isEqualTo(10);
     }
+
+    @Test
+    @DisplayName("여러 SKU 중 하나라도 재고가 부족하면 어떤 SKU의 재고도 차감되지 않는다")
+    void createOrderIsAllOrNothingAcrossSkus() {
+        // Given
+        Product product = Product.builder()
+                .name("Order Test Product 2")
+                .basePrice(new BigDecimal("20000"))
+                .attributes(Map.of())
+                .build();
+        Sku scarceSku = Sku.builder()
+                .skuCode("ORDER-TEST-SCARCE-" + System.nanoTime())
+                .attributes(Map.of())
+                .additionalPrice(BigDecimal.ZERO)
+                .build();
+        product.addSku(scarceSku);
+        productRepository.save(product);
+        inventoryRepository.save(Inventory.builder()
+                .sku(scarceSku)
+                .stockQuantity(1)
+                .build());
+
+        Long userId = 1L;
+        cartService.addItem(userId, null, testSku.getId(), 2);
+        cartService.addItem(userId, null, scarceSku.getId(), 2);
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.createOrder(userId))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(inventoryRepository.findBySkuId(testSku.getId()).orElseThrow().getStockQuantity()).isEqualTo(10);
+        assertThat(inventoryRepository.findBySkuId(scarceSku.getId()).orElseThrow().getStockQuantity()).isEqualTo(1);
+        assertThat(orderRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결제 제한 시간이 지난 주문은 만료 큐에서 꺼내 취소되고 재고가 원복된다")
+    void expiredOrderIsClaimedAndCancelled() {
+        // Given
+        Long userId = 1L;
+        cartService.addItem(userId, null, testSku.getId(), 2);
+        Long orderId = orderService.createOrder(userId);
+
+        // When
+        Instant afterDeadline = Instant.now().plus(orderTimeoutQueue.getPaymentTimeout()).plusSeconds(1);
+        List<Long> dueOrderIds = orderTimeoutQueue.claimDue(afterDeadline, 1000);
+
+        // Then
+        assertThat(dueOrderIds).contains(orderId);
+        assertThat(orderService.cancelExpiredOrders(List.of(orderId))).isEqualTo(1);
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(inventoryRepository.findBySkuId(testSku.getId()).orElseThrow().getStockQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("결제 완료된 주문은 만료 큐에서 제거되어 취소되지 않는다")
+    void paidOrderIsRemovedFromTimeoutQueue() {
+        // Given
+        Long userId = 1L;
+        cartService.addItem(userId, null, testSku.getId(), 1);
+        Long orderId = orderService.createOrder(userId);
+
+        // When
+        orderService.completePayment(orderId);
+
+        // Then
+        Instant afterDeadline = Instant.now().plus(orderTimeoutQueue.getPaymentTimeout()).plusSeconds(1);
+        assertThat(orderTimeoutQueue.claimDue(afterDeadline, 1000)).doesNotContain(orderId);
+        assertThat(orderService.cancelExpiredOrders(List.of(orderId))).isZero();
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAID);
+    }
+
+    @Test
+    @DisplayName("결제 처리 중이라 건너뛴 만료 주문은 만료 큐에 다시 등록된다")
+    void lockedExpiredOrderIsRequeued() throws Exception {
+        // Given: 결제 트랜잭션이 주문 행 락을 잡고 있음
+        Long userId = 1L;
+        cartService.addItem(userId, null, testSku.getId(), 1);
+        Long orderId = orderService.createOrder(userId);
+        Instant afterDeadline = Instant.now().plus(orderTimeoutQueue.getPaymentTimeout()).plusSeconds(1);
+        assertThat(orderTimeoutQueue.claimDue(afterDeadline, 1000)).contains(orderId);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> payment = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            orderRepository.findByIdForUpdate(orderId);
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // 결제 실패로 롤백
+            status.setRollbackOnly();
+        }));
+
+        try {
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            int cancelled = orderService.cancelExpiredOrders(List.of(orderId));
+
+            // Then
+            assertThat(cancelled).isZero();
+        } finally {
+            release.countDown();
+            payment.get(10, TimeUnit.SECONDS);
+            executor.shutdown();
+        }
+        assertThat(orderTimeoutQueue.claimDue(Instant.now().plusSeconds(5), 1000)).contains(orderId);
+        assertThat(orderService.cancelExpiredOrders(List.of(orderId))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 주문 일괄 취소 시 같은 SKU 수량을 합산해 한 번에 복구한다")
+    void cancelExpiredOrdersRestoresAggregatedStock() {
+        // Given
+        Long userId = 1L;
+        cartService.addItem(userId, null, testSku.getId(), 2);
+        Long firstOrderId = orderService.createOrder(userId);
+        cartService.addItem(userId, null, testSku.getId(), 3);
+        Long secondOrderId = orderService.createOrder(userId);
+        assertThat(inventoryRepository.findBySkuId(testSku.getId()).orElseThrow().getStockQuantity()).isEqualTo(5);
+
+        // When
+        int cancelled = orderService.cancelExpiredOrders(List.of(firstOrderId, secondOrderId));
+
+        // Then
+        assertThat(cancelled).isEqualTo(2);
+        assertThat(orderRepository.findAllById(List.of(firstOrderId, secondOrderId)))
+                .extracting(Order::getStatus)
+                .containsOnly(OrderStatus.CANCELLED);
+        assertThat(inventoryRepository.findBySkuId(testSku.getId()).orElseThrow().getStockQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("재고 선점은 주문 트랜잭션과 분리해 커밋되고, 주문이 롤백되면 별도 트랜잭션으로 복구된다")
+    void reservationCommitsSeparatelyAndIsReleasedOnRollback() {
+        // Given
+        Long userId = 1L;
+        cartService.addItem(userId, null, testSku.getId(), 3);
+
+        // When: 주문 생성 후 같은 트랜잭션의 다른 작업이 실패
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            orderService.createOrder(userId);
+            // 주문 트랜잭션이 끝나기 전에도 다른 트랜잭션에서 차감분이 보인다 (행 락을 주문 커밋까지 잡지 않음)
+            assertThat(committedStock()).isEqualTo(7);
+            status.setRollbackOnly();
+        });
+
+        // Then: afterCompletion의 복구가 트랜잭션 없이 호출되어도 반영된다
+        assertThat(committedStock()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("일괄 취소 트랜잭션이 롤백되면 먼저 커밋된 재고 복구분을 다시 차감한다")
+    void releaseAllIsTakenBackOnRollback() {
+        // Given
+        Long userId = 1L;
+        cartService.addItem(userId, null, testSku.getId(), 4);
+        Long orderId = orderService.createOrder(userId);
+        assertThat(inventoryRepository.findBySkuId(testSku.getId()).orElseThrow().getStockQuantity()).isEqualTo(6);
+
+        // When: 복구 후 같은 트랜잭션의 다른 작업이 실패
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            inventoryService.releaseAll(List.of(orderId), Map.of(testSku.getId(), 4));
+            // 복구분은 일괄 취소 트랜잭션과 분리되어 이미 커밋됨
+            assertThat(committedStock()).isEqualTo(10);
+            status.setRollbackOnly();
+        });
+
+        // Then: 주문은 결제 대기 상태로 남고 커밋된 복구분도 다시 차감된다
+        assertThat(orderRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING_PAYMENT);
+        assertThat(committedStock()).isEqualTo(6);
+    }
+
+    private int committedStock() {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return requiresNew.execute(status ->
+                inventoryRepository.findBySkuId(testSku.getId()).orElseThrow().getStockQuantity());
+    }
 }
@@ -3,6 +3,7 @@ package com.mall.product.repository;
 import com.mall.product.domain.*;
 import com.mall.product.dto.ProductResponse;
 import com.mall.product.dto.ProductSearchRequest;
+import com.mall.product.dto.SkuSnapshot;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +15,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,6 +29,9 @@ class ProductRepositoryTest {
 
     @Autowired
     private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private SkuRepository skuRepository;
     
     @Autowired
     private EntityManager em;
@@ -138,4 +143,43 @@ class ProductRepositoryTest {
         // Then
         assertThat(result.getContent()).hasSize(1);
     }
+
+    @Test
+    @DisplayName("여러 SKU의 가격/표시 정보를 한 번의 조회로 가져온다")
+    void findSkuSnapshots() {
+        // Given
+        Product product = Product.builder()
+                .name("Galaxy S25")
+                .basePrice(new BigDecimal("1100000"))
+                .attributes(Map.of())
+                .build();
+        Sku gray = Sku.builder()
+                .skuCode("S25-GRY-256")
+                .attributes(Map.of("Color", "Gray"))
+                .additionalPrice(BigDecimal.ZERO)
+                .build();
+        Sku blue = Sku.builder()
+                .skuCode("S25-BLU-512")
+                .attributes(Map.of("Color", "Blue"))
+                .additionalPrice(new BigDecimal("150000"))
+                .build();
+        product.addSku(gray);
+        product.addSku(blue);
+        productRepository.save(product);
+        em.flush();
+        em.clear();
+
+        // When
+        List<SkuSnapshot> snapshots = skuRepository.findSnapshots(List.of(gray.getId(), blue.getId()));
+
+        // Then
+        assertThat(snapshots).hasSize(2);
+        SkuSnapshot blueSnapshot = snapshots.stream()
+                .filter(s -> s.skuId().equals(blue.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(blueSnapshot.productName()).isEqualTo("Galaxy S25");
+        assertThat(blueSnapshot.attributes()).containsEntry("Color", "Blue");
+        assertThat(blueSnapshot.price().toBigDecimal()).isEqualByComparingTo("1250000");
+    }
 }
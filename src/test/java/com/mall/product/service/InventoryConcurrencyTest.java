@@ -12,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -44,7 +45,7 @@ class InventoryConcurrencyTest {
                 .build();
         
         Sku sku = Sku.builder()
-                .skuCode("CONC-TEST-001")
+                .skuCode("CONC-TEST-" + System.nanoTime())
                 .attributes(Map.of())
                 .additionalPrice(BigDecimal.ZERO)
                 .build();
@@ -93,4 +94,59 @@ class InventoryConcurrencyTest {
         Inventory finalInventory = inventoryRepository.findBySkuId(targetSkuId).orElseThrow();
         assertThat(finalInventory.getStockQuantity()).isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("여러 SKU를 서로 다른 순서로 동시에 일괄 차감해도 교착 없이 재고만큼만 성공한다")
+    void concurrentReserveAllAcrossSkus() throws InterruptedException {
+        Product product = Product.builder()
+                .name("Concurrency Test Product 2")
+                .basePrice(new BigDecimal("10000"))
+                .attributes(Map.of())
+                .build();
+        Sku otherSku = Sku.builder()
+                .skuCode("CONC-TEST-OTHER-" + System.nanoTime())
+                .attributes(Map.of())
+                .additionalPrice(BigDecimal.ZERO)
+                .build();
+        product.addSku(otherSku);
+        productRepository.save(product);
+        inventoryRepository.save(Inventory.builder()
+                .sku(otherSku)
+                .stockQuantity(10)
+                .build());
+        Long otherSkuId = otherSku.getId();
+
+        int threadCount = 30;
+        ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            // 절반은 역순으로 전달 (정렬된 락 획득 확인)
+            Map<Long, Integer> quantities = new LinkedHashMap<>();
+            if (i % 2 == 0) {
+                quantities.put(targetSkuId, 1);
+                quantities.put(otherSkuId, 1);
+            } else {
+                quantities.put(otherSkuId, 1);
+                quantities.put(targetSkuId, 1);
+            }
+            executorService.submit(() -> {
+                try {
+                    inventoryService.reserveAll(quantities);
+                    successCount.getAndIncrement();
+                } catch (Exception e) {
+                    // 재고 부족 또는 락 획득 실패
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(inventoryRepository.findBySkuId(targetSkuId).orElseThrow().getStockQuantity()).isZero();
+        assertThat(inventoryRepository.findBySkuId(otherSkuId).orElseThrow().getStockQuantity()).isZero();
+    }
 }
@@ -0,0 +1,124 @@
+package com.mall.product.service;
+
+import com.mall.product.domain.Inventory;
+import com.mall.product.domain.Product;
+import com.mall.product.domain.Sku;
+import com.mall.product.domain.StockReservation;
+import com.mall.product.repository.InventoryRepository;
+import com.mall.product.repository.ProductRepository;
+import com.mall.product.repository.StockReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "mall.inventory.mode=ledger")
+class LedgerInventoryServiceTest {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long skuId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.builder()
+                .name("Ledger Stock Test Product")
+                .basePrice(new BigDecimal("10000"))
+                .attributes(Map.of())
+                .build();
+
+        Sku sku = Sku.builder()
+                .skuCode("LEDGER-STOCK-" + System.nanoTime())
+                .attributes(Map.of())
+                .additionalPrice(BigDecimal.ZERO)
+                .build();
+        product.addSku(sku);
+        productRepository.save(product);
+
+        inventoryRepository.save(Inventory.builder()
+                .sku(sku)
+                .stockQuantity(10)
+                .build());
+
+        skuId = sku.getId();
+    }
+
+    @Test
+    @DisplayName("선점은 재고를 차감하지 않고 판매 가능 재고에서만 제외한다")
+    void reserveExcludesFromAvailableStock() {
+        // When
+        inventoryService.reserve(1001L, Map.of(skuId, 4));
+
+        // Then
+        assertThat(inventoryRepository.findBySkuId(skuId).orElseThrow().getStockQuantity()).isEqualTo(10);
+        assertThat(inventoryRepository.findTotalStocks(List.of(skuId))).containsEntry(skuId, 6);
+        assertThatThrownBy(() -> inventoryService.reserve(1002L, Map.of(skuId, 7)))
+                .isInstanceOf(InsufficientStockException.class);
+    }
+
+    @Test
+    @DisplayName("결제 확정 시 선점분이 실제로 차감되고 선점 기록은 삭제된다")
+    void confirmDecreasesStock() {
+        // Given
+        inventoryService.reserve(2001L, Map.of(skuId, 3));
+
+        // When
+        inventoryService.confirm(2001L, Map.of(skuId, 3));
+
+        // Then
+        assertThat(inventoryRepository.findBySkuId(skuId).orElseThrow().getStockQuantity()).isEqualTo(7);
+        assertThat(stockReservationRepository.findByOrderId(2001L)).isEmpty();
+        assertThat(inventoryRepository.findTotalStocks(List.of(skuId))).containsEntry(skuId, 7);
+    }
+
+    @Test
+    @DisplayName("선점 해제는 재고 쓰기 없이 판매 가능 재고를 되돌린다")
+    void releaseRestoresAvailableStock() {
+        // Given
+        inventoryService.reserve(3001L, Map.of(skuId, 5));
+
+        // When
+        inventoryService.release(3001L, Map.of(skuId, 5));
+
+        // Then
+        assertThat(inventoryRepository.findBySkuId(skuId).orElseThrow().getStockQuantity()).isEqualTo(10);
+        assertThat(inventoryRepository.findTotalStocks(List.of(skuId))).containsEntry(skuId, 10);
+    }
+
+    @Test
+    @DisplayName("만료된 선점은 판매 가능 재고 계산에서 제외된다")
+    void expiredReservationReturnsToStock() {
+        // Given: 이미 만료된 선점
+        stockReservationRepository.save(StockReservation.builder()
+                .skuId(skuId)
+                .orderId(4001L)
+                .quantity(8)
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build());
+
+        // When
+        inventoryService.reserve(4002L, Map.of(skuId, 10));
+
+        // Then
+        assertThat(inventoryRepository.findTotalStocks(List.of(skuId))).containsEntry(skuId, 0);
+    }
+}
@@ -0,0 +1,155 @@
+package com.mall.product.service;
+
+import com.mall.product.domain.Inventory;
+import com.mall.product.domain.Product;
+import com.mall.product.domain.Sku;
+import com.mall.product.repository.InventoryRepository;
+import com.mall.product.repository.ProductRepository;
+import com.mall.product.repository.RedisStockRepository;
+import com.mall.product.scheduler.StockWriteBehindFlusher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "mall.inventory.mode=redis")
+class RedisInventoryConcurrencyTest {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private StockCounterLoader stockCounterLoader;
+
+    @Autowired
+    private StockWriteBehindFlusher stockWriteBehindFlusher;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private RedisStockRepository redisStockRepository;
+
+    @Autowired
+    private InventoryStockWriter inventoryStockWriter;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    private Long targetSkuId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.builder()
+                .name("Redis Stock Test Product")
+                .basePrice(new BigDecimal("10000"))
+                .attributes(Map.of())
+                .build();
+
+        Sku sku = Sku.builder()
+                .skuCode("REDIS-STOCK-" + System.nanoTime())
+                .attributes(Map.of())
+                .additionalPrice(BigDecimal.ZERO)
+                .build();
+        product.addSku(sku);
+        productRepository.save(product);
+
+        inventoryRepository.save(Inventory.builder()
+                .sku(sku)
+                .stockQuantity(10)
+                .build());
+
+        targetSkuId = sku.getId();
+
+        // 이전 실행에서 남은 증감분/카운터 정리 후 DB 재고로 재적재
+        stockWriteBehindFlusher.flush();
+        stockCounterLoader.reload(targetSkuId);
+    }
+
+    @Test
+    @DisplayName("Redis 카운터 모드에서 100명이 동시에 10개의 재고를 주문하면 정확히 10명만 성공하고 DB에 일괄 반영된다")
+    void concurrentDecreaseStockWithWriteBehind() throws InterruptedException {
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    inventoryService.decreaseStock(targetSkuId, 1);
+                    successCount.getAndIncrement();
+                } catch (Exception ignored) {
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+
+        assertThat(successCount.get()).isEqualTo(10);
+
+        // Write-behind 반영 후 DB 재고 확인
+        stockWriteBehindFlusher.flush();
+        Inventory finalInventory = inventoryRepository.findBySkuId(targetSkuId).orElseThrow();
+        assertThat(finalInventory.getStockQuantity()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("카운터가 사라진 뒤 다시 적재할 때 DB에 아직 반영되지 않은 증감분을 뺀다")
+    void lazyLoadSubtractsPendingDeltas() {
+        // Given: 3개 차감 (DB 미반영) 후 카운터 유실
+        inventoryService.decreaseStock(targetSkuId, 3);
+        redissonClient.getBucket("STOCK:" + targetSkuId).delete();
+
+        // When & Then: DB 재고(10)가 아닌 7개 기준으로 판단
+        assertThatThrownBy(() -> inventoryService.decreaseStock(targetSkuId, 8))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(stockCounter()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("DB 반영 후 완료 처리 전에 실패한 드레인은 재시도 시 다시 반영되지 않는다")
+    void drainIsAppliedOnce() {
+        // Given: 드레인을 DB에 반영했지만 Redis 완료 처리 전에 실패
+        inventoryService.decreaseStock(targetSkuId, 2);
+        RedisStockRepository.Drain drain = redisStockRepository
+                .drainDeltas(inventoryStockWriter.findLastAppliedDrainId())
+                .orElseThrow();
+        assertThat(inventoryStockWriter.applyDeltas(drain.id(), drain.deltas())).isTrue();
+
+        // 반영 중인 드레인이 남아 있어도 DB에 포함된 증감분은 적재 시 다시 빼지 않는다
+        redissonClient.getBucket("STOCK:" + targetSkuId).delete();
+        assertThat(stockCounterLoader.load(targetSkuId)).isTrue();
+        assertThat(stockCounter()).isEqualTo(8);
+
+        // When: 다음 주기 재시도
+        stockWriteBehindFlusher.flush();
+
+        // Then
+        assertThat(inventoryRepository.findBySkuId(targetSkuId).orElseThrow().getStockQuantity()).isEqualTo(8);
+        assertThat(redisStockRepository.drainDeltas(inventoryStockWriter.findLastAppliedDrainId())).isEmpty();
+    }
+
+    private long stockCounter() {
+        return Long.parseLong(redissonClient.<String>getBucket("STOCK:" + targetSkuId, StringCodec.INSTANCE).get());
+    }
+}
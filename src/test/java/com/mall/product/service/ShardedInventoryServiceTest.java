@@ -0,0 +1,151 @@
+package com.mall.product.service;
+
+import com.mall.product.domain.Inventory;
+import com.mall.product.domain.Product;
+import com.mall.product.domain.Sku;
+import com.mall.product.repository.InventoryBucketRepository;
+import com.mall.product.repository.InventoryRepository;
+import com.mall.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "mall.inventory.mode=sharded")
+class ShardedInventoryServiceTest {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryBucketService inventoryBucketService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private InventoryBucketRepository inventoryBucketRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long productId;
+    private Long skuId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.builder()
+                .name("Sharded Stock Test Product")
+                .basePrice(new BigDecimal("10000"))
+                .attributes(Map.of())
+                .build();
+
+        Sku sku = Sku.builder()
+                .skuCode("SHARDED-STOCK-" + System.nanoTime())
+                .attributes(Map.of())
+                .additionalPrice(BigDecimal.ZERO)
+                .build();
+        product.addSku(sku);
+        productRepository.save(product);
+
+        inventoryRepository.save(Inventory.builder()
+                .sku(sku)
+                .stockQuantity(10)
+                .build());
+
+        productId = product.getId();
+        skuId = sku.getId();
+    }
+
+    @Test
+    @DisplayName("재고를 버킷으로 분할해도 조회 시 전체 합계가 유지된다")
+    void shardKeepsTotalStock() {
+        // When
+        inventoryBucketService.shard(skuId, 4);
+
+        // Then
+        assertThat(inventoryBucketRepository.countBySkuId(skuId)).isEqualTo(4);
+        assertThat(inventoryRepository.findTotalStocks(List.of(skuId))).containsEntry(skuId, 10);
+        assertThat(productService.getProduct(productId).skus().get(0).stockQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("단일 버킷으로 부족한 수량은 여러 버킷에 걸쳐 차감하고, 전체 재고를 넘으면 실패한다")
+    void decreaseAcrossBuckets() {
+        // Given: 10개를 4개 버킷(3, 3, 2, 2)으로 분할
+        inventoryBucketService.shard(skuId, 4);
+
+        // When
+        inventoryService.decreaseStock(skuId, 7);
+
+        // Then
+        assertThat(inventoryRepository.findTotalStocks(List.of(skuId))).containsEntry(skuId, 3);
+        assertThatThrownBy(() -> inventoryService.decreaseStock(skuId, 4))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(inventoryRepository.findTotalStocks(List.of(skuId))).containsEntry(skuId, 3);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 병합되어 버킷 수 캐시가 오래되어도 Inventory 행에서 차감된다")
+    void staleBucketCountFallsBackToInventoryRow() {
+        // Given: 이 노드는 4개 버킷으로 캐시
+        inventoryBucketService.shard(skuId, 4);
+
+        // 다른 노드가 병합 (버킷 삭제, Inventory 행으로 합계 이동)
+        inventoryBucketRepository.deleteAll(inventoryBucketRepository.findAll().stream()
+                .filter(bucket -> bucket.getSku().getId().equals(skuId))
+                .toList());
+        Inventory inventory = inventoryRepository.findBySkuId(skuId).orElseThrow();
+        inventory.updateStock(10);
+        inventoryRepository.save(inventory);
+
+        // When
+        inventoryService.decreaseStock(skuId, 3);
+
+        // Then
+        assertThat(inventoryRepository.findBySkuId(skuId).orElseThrow().getStockQuantity()).isEqualTo(7);
+        assertThat(inventoryBucketService.bucketCount(skuId)).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 복구는 SKU별로 먼저 커밋되고, 일괄 취소 트랜잭션이 롤백되면 새 트랜잭션에서 다시 차감된다")
+    void releaseAllIsCommittedThenTakenBackOnRollback() {
+        // Given
+        inventoryBucketService.shard(skuId, 2);
+        inventoryService.decreaseStock(skuId, 4);
+
+        // When: 복구 후 같은 트랜잭션의 다른 작업이 실패
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            inventoryService.releaseAll(List.of(1L), Map.of(skuId, 4));
+            // 복구분은 일괄 취소 트랜잭션과 분리되어 이미 커밋됨
+            assertThat(committedTotalStock()).isEqualTo(10);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(committedTotalStock()).isEqualTo(6);
+    }
+
+    private int committedTotalStock() {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return requiresNew.execute(status -> inventoryRepository.findTotalStocks(List.of(skuId)).get(skuId));
+    }
+}
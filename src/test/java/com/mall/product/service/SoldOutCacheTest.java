@@ -0,0 +1,69 @@
+package com.mall.product.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SoldOutCacheTest {
+
+    @Autowired
+    private SoldOutCache soldOutCache;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Test
+    @DisplayName("품절 표시는 Redis와 로컬 캐시에 함께 기록되고, 해제 시 둘 다 제거된다")
+    void markAndRemove() {
+        Long skuId = System.nanoTime();
+
+        soldOutCache.markAsSoldOut(skuId);
+        assertThat(redissonClient.getBucket("SOLD_OUT:" + skuId).isExists()).isTrue();
+        assertThat(soldOutCache.isSoldOut(skuId)).isTrue();
+        assertThat(soldOutCache.findSoldOut(List.of(skuId, skuId + 1))).containsExactly(skuId);
+
+        soldOutCache.remove(skuId);
+        assertThat(soldOutCache.isSoldOut(skuId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 Redis에 기록한 품절 표시도 조회 시 로컬 캐시에 적재된다")
+    void loadsFromRedisOnLocalMiss() {
+        Long skuId = System.nanoTime();
+        redissonClient.getBucket("SOLD_OUT:" + skuId).set("TRUE", Duration.ofSeconds(10));
+
+        assertThat(soldOutCache.isSoldOut(skuId)).isTrue();
+
+        // Redis 키가 사라져도 로컬 TTL 동안은 네트워크 없이 품절로 판단
+        redissonClient.getBucket("SOLD_OUT:" + skuId).delete();
+        assertThat(soldOutCache.isSoldOut(skuId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("품절이 아닌 SKU는 잠시 로컬에 보관되고, 다른 노드의 품절 표시 이벤트는 즉시 반영된다")
+    void cachesMissUntilSoldOutEvent() throws InterruptedException {
+        Long skuId = System.nanoTime();
+        assertThat(soldOutCache.isSoldOut(skuId)).isFalse();
+
+        // 이벤트 없이 Redis에만 기록된 품절은 로컬 보관 시간 동안 조회하지 않음
+        redissonClient.getBucket("SOLD_OUT:" + skuId, StringCodec.INSTANCE).set("TRUE", Duration.ofSeconds(10));
+        assertThat(soldOutCache.isSoldOut(skuId)).isFalse();
+
+        // 다른 노드의 품절 표시 이벤트
+        redissonClient.getTopic("SOLD_OUT:EVENTS", StringCodec.INSTANCE).publish("+" + skuId);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!soldOutCache.isSoldOut(skuId) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(soldOutCache.isSoldOut(skuId)).isTrue();
+    }
+}